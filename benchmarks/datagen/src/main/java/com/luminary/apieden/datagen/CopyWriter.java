@@ -0,0 +1,59 @@
+package com.luminary.apieden.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/** Streams rows to {@code COPY table (columns) FROM STDIN} in PostgreSQL's text format. */
+final class CopyWriter implements AutoCloseable {
+    private final PGCopyOutputStream output;
+    private final StringBuilder row = new StringBuilder(256);
+    private long rows;
+
+    CopyWriter(Connection connection, String table, String columns) throws SQLException {
+        this.output = new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                "COPY " + table + " (" + columns + ") FROM STDIN", 1 << 16);
+    }
+
+    CopyWriter field(Object value) {
+        if (!row.isEmpty()) {
+            row.append('\t');
+        }
+        if (value == null) {
+            row.append("\\N");
+        } else {
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> row.append("\\\\");
+                    case '\t' -> row.append("\\t");
+                    case '\n' -> row.append("\\n");
+                    case '\r' -> row.append("\\r");
+                    default -> row.append(c);
+                }
+            }
+        }
+        return this;
+    }
+
+    void end() throws IOException {
+        row.append('\n');
+        output.write(row.toString().getBytes(StandardCharsets.UTF_8));
+        row.setLength(0);
+        rows++;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
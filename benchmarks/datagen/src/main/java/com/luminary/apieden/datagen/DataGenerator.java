@@ -0,0 +1,348 @@
+package com.luminary.apieden.datagen;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills an already migrated ApiEden database with a synthetic dataset shaped by {@link DatasetShape}:
+ * sellers follow a power law (few sellers own most products), carts, favorites and ratings concentrate on hot
+ * products and sellers. Every table is split in id ranges loaded in parallel through {@code COPY}, one
+ * connection per range, in dependency order. Derived columns (cart totals, rating aggregates, seller sales
+ * rollups) are recomputed in SQL at the end, the same way the migrations and the backfill do.
+ *
+ * <pre>
+ * java -jar datagen.jar --url=jdbc:postgresql://localhost:5432/eden --user=eden --password=... \
+ *     [--scale=1] [--threads=8] [--seed=42] [--seller-skew=1.1] [--product-skew=1.0] [--buyer-skew=0.5] [--truncate]
+ *     [--skip-fk-checks]
+ * </pre>
+ */
+public final class DataGenerator {
+    /** BCrypt (cost 10) of {@code megaSenha@123}, so generated users can request tokens. */
+    private static final String PASSWORD_HASH = "$2a$10$6wIjnXCpmLkJGHu.N7BO4e41hniEm8AzJOMSA8QX5brVM2ZypN1be";
+    private static final String[] TERMS = {"Bicicleta", "Notebook", "Geladeira", "Celular", "Cadeira", "Monitor",
+            "Fogão", "Sofá", "Impressora", "Televisão", "Guarda-roupa", "Micro-ondas"};
+    private static final String[] REFERENCE_DATA = {
+            "INSERT INTO usage_time (pk_id, time, discount_percentage) VALUES (1, 'Menos de 1 ano', 0.1), "
+                    + "(2, 'De 1 a 3 anos', 0.2), (3, 'Mais de 3 anos', 0.3) ON CONFLICT (pk_id) DO NOTHING",
+            "INSERT INTO condition_types (pk_id, type, description) VALUES (1, 'Novo', 'Sem uso'), "
+                    + "(2, 'Seminovo', 'Pouco uso'), (3, 'Usado', 'Marcas de uso') ON CONFLICT (pk_id) DO NOTHING",
+            "INSERT INTO payments_types (pk_id, type, description) VALUES (1, 'PIX', 'Pagamento instantâneo'), "
+                    + "(2, 'Cartão', 'Crédito'), (3, 'Boleto', 'Boleto bancário') ON CONFLICT (pk_id) DO NOTHING",
+            "INSERT INTO status_orders (pk_id, status, description) VALUES (1, 'pendente', 'Aguardando pagamento'), "
+                    + "(2, 'processando', 'Pedido em processamento'), (3, 'enviado', 'Pedido entregue ao cliente'), "
+                    + "(4, 'entregue', 'Pedido entregue ao cliente'), "
+                    + "(5, 'cancelado', 'Pedido cancelado pelo cliente ou pelo sistema') ON CONFLICT (pk_id) DO NOTHING"};
+    private static final String[] DERIVED_DATA = {
+            "UPDATE carts c SET total_sale = s.total FROM ("
+                    + "SELECT ci.fk_carts_id, SUM(p.price) AS total FROM carts_itens ci "
+                    + "JOIN products p ON p.pk_id = ci.fk_product_id GROUP BY ci.fk_carts_id) s "
+                    + "WHERE c.pk_id = s.fk_carts_id",
+            // Same buckets as db/003_user_rating_aggregates.sql, computed in a single pass
+            "UPDATE users u SET rating_sum = agg.total, rating_count = agg.amount, rating_histogram = agg.histogram, "
+                    + "rating = agg.total / agg.amount FROM ("
+                    + "SELECT r.fk_user_appraised_id AS user_id, SUM(r.rating) AS total, COUNT(*) AS amount, "
+                    + "ARRAY[" + histogramBuckets() + "] AS histogram "
+                    + "FROM ratings r GROUP BY r.fk_user_appraised_id) agg WHERE u.pk_id = agg.user_id",
+            // Same backfill as SellerSalesDailyRepository
+            "TRUNCATE seller_sales_daily, seller_sales_buyers",
+            "INSERT INTO seller_sales_buyers (fk_seller_id, sale_date, fk_buyer_id) "
+                    + "SELECT DISTINCT p.fk_user_id, o.order_date, o.fk_user_id FROM orders o "
+                    + "JOIN orders_itens oi ON oi.fk_order_id = o.pk_id JOIN products p ON p.pk_id = oi.fk_product_id",
+            "INSERT INTO seller_sales_daily (fk_seller_id, sale_date, units, gross_revenue, distinct_buyers) "
+                    + "SELECT p.fk_user_id, o.order_date, COUNT(*), SUM(p.price), COUNT(DISTINCT o.fk_user_id) FROM orders o "
+                    + "JOIN orders_itens oi ON oi.fk_order_id = o.pk_id JOIN products p ON p.pk_id = oi.fk_product_id "
+                    + "GROUP BY p.fk_user_id, o.order_date"};
+    private static final String[] SERIAL_TABLES = {"users", "carts", "cards", "products", "carts_itens", "ratings",
+            "orders", "orders_itens"};
+
+    private final Map<String, String> options;
+    private final DatasetShape shape;
+    private final int threads;
+    private final long seed;
+    private final boolean skipForeignKeyChecks;
+    private final LocalDate today = LocalDate.now();
+    private Zipf sellers;
+    private Zipf buyers;
+    private Zipf hotProducts;
+
+    private DataGenerator(Map<String, String> options) {
+        this.options = options;
+        this.shape = DatasetShape.of(options);
+        this.threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        this.seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        this.skipForeignKeyChecks = Boolean.parseBoolean(options.getOrDefault("skip-fk-checks", "false"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("unexpected argument " + arg);
+            }
+            int equals = arg.indexOf('=');
+            options.put(equals < 0 ? arg.substring(2) : arg.substring(2, equals), equals < 0 ? "true" : arg.substring(equals + 1));
+        }
+        if (!options.containsKey("url")) {
+            System.err.println("usage: java -jar datagen.jar --url=jdbc:postgresql://host/db --user=... --password=... "
+                    + "[--scale=1] [--threads=N] [--seed=42] [--seller-skew=1.1] [--product-skew=1.0] "
+                    + "[--buyer-skew=0.5] [--truncate] [--skip-fk-checks]");
+            System.exit(2);
+        }
+        new DataGenerator(options).run();
+    }
+
+    private void run() throws Exception {
+        long start = System.nanoTime();
+        System.out.printf("%s, ~%,d rows, %d threads%n", shape, shape.rows(), threads);
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            if (Boolean.parseBoolean(options.getOrDefault("truncate", "false"))) {
+                statement.execute("TRUNCATE users, products, carts, carts_itens, orders, orders_itens, favorites, "
+                        + "ratings, cards, seller_sales_daily, seller_sales_buyers RESTART IDENTITY CASCADE");
+            }
+            for (String sql : REFERENCE_DATA) {
+                statement.execute(sql);
+            }
+        }
+        sellers = new Zipf(shape.users(), 0, shape.sellerSkew());
+        buyers = new Zipf(shape.users(), 0, shape.buyerSkew());
+        hotProducts = new Zipf(shape.availableProducts(), 0, shape.productSkew());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            phase(executor, table("users", "pk_id, cpf, name, user_name, password, email, cellphone", 1, shape.users() + 1, this::users));
+            phase(executor,
+                    table("carts", "pk_id, fk_user_id, total_sale", 1, shape.users() + 1, this::carts),
+                    table("cards", "fk_user_id, card_number, cvv, cvc, validity", 1, shape.users() + 1, this::cards),
+                    table("products", "pk_id, fk_usage_time_id, fk_condition_type_id, fk_user_id, title, description, "
+                            + "price, max_price, sender_zip_code, premium, availability", 1, shape.products() + 1, this::products));
+            phase(executor,
+                    table("carts_itens", "fk_carts_id, fk_product_id", 1, shape.users() + 1, this::cartItems),
+                    table("favorites", "fk_user_id, fk_product_id", 1, shape.users() + 1, this::favorites),
+                    table("ratings", "rating, fk_user_appraiser_id, fk_user_appraised_id", 1, shape.users() + 1, this::ratings),
+                    table("orders", "pk_id, fk_payment_type_id, fk_status_order_id, fk_user_id, order_date, "
+                            + "address_delivery, total_sale", 1, shape.orders() + 1, this::orders));
+            phase(executor, table("orders_itens", "pk_id, fk_order_id, fk_product_id", 0, shape.orderItems(), this::orderItems));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (String sql : DERIVED_DATA) {
+                long step = System.nanoTime();
+                statement.execute(sql);
+                System.out.printf("%-60.60s %6.1fs%n", sql, (System.nanoTime() - step) / 1e9);
+            }
+            for (String table : SERIAL_TABLES) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'pk_id'), "
+                        + "GREATEST(1, (SELECT COALESCE(MAX(pk_id), 0) FROM " + table + ")))");
+            }
+            statement.execute("ANALYZE");
+        }
+        System.out.printf("Done in %s%n", Duration.ofNanos(System.nanoTime() - start).withNanos(0));
+    }
+
+    private void users(CopyWriter out, long from, long to, Random random) throws Exception {
+        for (long id = from; id < to; id++) {
+            out.field(id).field(cpf(id)).field("Usuário " + id).field("usuario" + id).field(PASSWORD_HASH)
+                    .field("usuario" + id + "@eden.dev").field(String.format("11%09d", id)).end();
+        }
+    }
+
+    private void carts(CopyWriter out, long from, long to, Random random) throws Exception {
+        for (long id = from; id < to; id++) {
+            out.field(id).field(id).field(0).end();
+        }
+    }
+
+    private void cards(CopyWriter out, long from, long to, Random random) throws Exception {
+        for (long user = from; user < to; user++) {
+            for (int card = poisson(random, shape.cardsPerUser()); card > 0; card--) {
+                out.field(user).field(String.format("%016d", Math.floorMod(random.nextLong(), 10_000_000_000_000_000L)))
+                        .field(String.format("%03d", random.nextInt(1000))).field(String.format("%03d", random.nextInt(1000)))
+                        .field(String.format("%02d/%02d", 1 + random.nextInt(12), 25 + random.nextInt(8))).end();
+            }
+        }
+    }
+
+    private void products(CopyWriter out, long from, long to, Random random) throws Exception {
+        for (long id = from; id < to; id++) {
+            double price = price(id);
+            out.field(id).field(1 + random.nextInt(3)).field(1 + random.nextInt(3)).field(sellers.next(random))
+                    .field(TERMS[(int) (id % TERMS.length)] + " " + id).field("Produto gerado para testes de desempenho")
+                    .field(price).field(Math.round(price * 120) / 100.0).field(String.format("%08d", random.nextInt(100_000_000)))
+                    .field(random.nextInt(10) == 0 ? "t" : "f").field(shape.sold(id) ? "SOLD" : "AVAILABLE").end();
+        }
+    }
+
+    private void cartItems(CopyWriter out, long from, long to, Random random) throws Exception {
+        for (long cart = from; cart < to; cart++) {
+            for (long product : distinct(random, poisson(random, shape.cartItemsPerUser()), hotProducts, -1)) {
+                out.field(cart).field(product).end();
+            }
+        }
+    }
+
+    private void favorites(CopyWriter out, long from, long to, Random random) throws Exception {
+        for (long user = from; user < to; user++) {
+            for (long product : distinct(random, poisson(random, shape.favoritesPerUser()), hotProducts, -1)) {
+                out.field(user).field(product).end();
+            }
+        }
+    }
+
+    /** Hot sellers collect most ratings; scores lean towards the top of the 0.5 .. 5.0 scale. */
+    private void ratings(CopyWriter out, long from, long to, Random random) throws Exception {
+        for (long appraiser = from; appraiser < to; appraiser++) {
+            for (long appraised : distinct(random, poisson(random, shape.ratingsPerUser()), sellers, appraiser)) {
+                int bucket = Math.max(0, 9 - (int) Math.abs(random.nextGaussian() * 3));
+                out.field(0.5 * (bucket + 1)).field(appraiser).field(appraised).end();
+            }
+        }
+    }
+
+    private void orders(CopyWriter out, long from, long to, Random random) throws Exception {
+        for (long order = from; order < to; order++) {
+            double total = 0;
+            for (long item = shape.firstItemOf(order); item < shape.firstItemOf(order + 1); item++) {
+                total += price(shape.soldProduct(item));
+            }
+            out.field(order).field(1 + random.nextInt(3)).field(4).field(buyers.next(random))
+                    .field(today.minusDays(random.nextInt(365))).field("Rua Gerada, " + (1 + random.nextInt(2000)))
+                    .field((float) total).end();
+        }
+    }
+
+    private void orderItems(CopyWriter out, long from, long to, Random random) throws Exception {
+        for (long item = from; item < to; item++) {
+            out.field(item + 1).field(shape.orderOf(item)).field(shape.soldProduct(item)).end();
+        }
+    }
+
+    private Table table(String name, String columns, long from, long to, Rows rows) {
+        return new Table(name, columns, from, to, rows);
+    }
+
+    /** Loads the tables concurrently, each split in {@code threads} id ranges, and waits for all of them. */
+    private void phase(ExecutorService executor, Table... tables) throws Exception {
+        List<Future<?>> chunks = new ArrayList<>();
+        Map<String, AtomicLong> loaded = new HashMap<>();
+        long start = System.nanoTime();
+        for (Table table : tables) {
+            AtomicLong rows = loaded.computeIfAbsent(table.name(), ignored -> new AtomicLong());
+            long size = Math.ceilDiv(table.to() - table.from(), threads);
+            for (int chunk = 0; chunk < threads; chunk++) {
+                long from = table.from() + chunk * size;
+                long to = Math.min(table.to(), from + size);
+                if (from >= to) {
+                    break;
+                }
+                Random random = new Random(seed * 31 + table.name().hashCode() * 17L + chunk);
+                chunks.add(executor.submit(() -> {
+                    try (Connection connection = connect();
+                         CopyWriter out = new CopyWriter(connection, table.name(), table.columns())) {
+                        table.rows().write(out, from, to, random);
+                        out.close();
+                        rows.addAndGet(out.rows());
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> chunk : chunks) {
+            chunk.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long total = loaded.values().stream().mapToLong(AtomicLong::get).sum();
+        loaded.forEach((table, rows) -> System.out.printf("%-14s %,12d rows%n", table, rows.get()));
+        System.out.printf("  %,d rows in %.1fs (%,.0f rows/s)%n", total, seconds, total / seconds);
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(options.get("url"),
+                options.getOrDefault("user", ""), options.getOrDefault("password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET synchronous_commit = off");
+            if (skipForeignKeyChecks) {
+                // Foreign keys are enforced by triggers; every generated id points at a row of an earlier phase.
+                statement.execute("SET session_replication_role = replica");
+            }
+        }
+        return connection;
+    }
+
+    private static Set<Long> distinct(Random random, int count, Zipf zipf, long excluded) {
+        Set<Long> ids = new HashSet<>();
+        for (int attempt = 0; ids.size() < count && attempt < count * 10; attempt++) {
+            long id = zipf.next(random);
+            if (id != excluded) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static int poisson(Random random, double mean) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    /** Deterministic per product, so order totals can be computed without reading the products back. */
+    private static double price(long productId) {
+        long mixed = (productId * 0x9E3779B97F4A7C15L) >>> 33;
+        return 20 + (mixed % 500_000) / 100.0;
+    }
+
+    private static String cpf(long id) {
+        String base = String.format("%09d", id);
+        int first = cpfDigit(base);
+        return base + first + cpfDigit(base + first);
+    }
+
+    private static int cpfDigit(String digits) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (digits.length() + 1 - i);
+        }
+        int digit = sum * 10 % 11;
+        return digit == 10 ? 0 : digit;
+    }
+
+    private static String histogramBuckets() {
+        StringBuilder buckets = new StringBuilder();
+        for (int bucket = 0; bucket < 10; bucket++) {
+            buckets.append(bucket == 0 ? "" : ", ").append("COUNT(*) FILTER (WHERE LEAST(9, GREATEST(0, ROUND(r.rating * 2)::INTEGER - 1)) = ")
+                    .append(bucket).append(")::INTEGER");
+        }
+        return buckets.toString();
+    }
+
+    private record Table(String name, String columns, long from, long to, Rows rows) {
+    }
+
+    @FunctionalInterface
+    private interface Rows {
+        void write(CopyWriter out, long from, long to, Random random) throws Exception;
+    }
+}
@@ -0,0 +1,64 @@
+package com.luminary.apieden.datagen;
+
+import java.util.Map;
+
+/**
+ * Row counts and skews of a generated dataset. Scale 1 is about 10M rows: 500k users (and carts), 3M
+ * products, 800k orders with 1.6M items, and per user on average 1.6 cart items, 2.4 favorites, 1.6 ratings
+ * given and 1.2 cards. The last {@code orderItems} products are the sold ones, one order item each.
+ */
+record DatasetShape(long users,
+                    long products,
+                    long orders,
+                    long orderItems,
+                    double cartItemsPerUser,
+                    double favoritesPerUser,
+                    double ratingsPerUser,
+                    double cardsPerUser,
+                    double sellerSkew,
+                    double productSkew,
+                    double buyerSkew) {
+
+    static DatasetShape of(Map<String, String> options) {
+        double scale = Double.parseDouble(options.getOrDefault("scale", "1"));
+        DatasetShape shape = new DatasetShape(
+                Math.max(10, Math.round(500_000 * scale)),
+                Math.max(100, Math.round(3_000_000 * scale)),
+                Math.max(10, Math.round(800_000 * scale)),
+                Math.max(20, Math.round(1_600_000 * scale)),
+                1.6, 2.4, 1.6, 1.2,
+                Double.parseDouble(options.getOrDefault("seller-skew", "1.1")),
+                Double.parseDouble(options.getOrDefault("product-skew", "1.0")),
+                Double.parseDouble(options.getOrDefault("buyer-skew", "0.5")));
+        if (shape.orderItems() < shape.orders() || shape.orderItems() >= shape.products()) {
+            throw new IllegalArgumentException("need orders <= order items < products: " + shape);
+        }
+        return shape;
+    }
+
+    long availableProducts() {
+        return products - orderItems;
+    }
+
+    boolean sold(long productId) {
+        return productId > availableProducts();
+    }
+
+    long soldProduct(long orderItem) {
+        return availableProducts() + 1 + orderItem;
+    }
+
+    /** Order of the 0-based order item: items are spread evenly, so every order gets one or more. */
+    long orderOf(long orderItem) {
+        return orderItem * orders / orderItems + 1;
+    }
+
+    long firstItemOf(long order) {
+        return Math.ceilDiv((order - 1) * orderItems, orders);
+    }
+
+    long rows() {
+        return users * 2 + products + orders + orderItems
+                + Math.round(users * (cartItemsPerUser + favoritesPerUser + ratingsPerUser + cardsPerUser));
+    }
+}
@@ -0,0 +1,41 @@
+package com.luminary.apieden.datagen;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Power-law sampler over ids {@code 1..size}: rank {@code k} is drawn with probability proportional to
+ * {@code 1 / k^exponent}. Ranks are scattered over the ids by a fixed permutation, so the hot rows are not
+ * simply the oldest ones. Exponent 0 is uniform.
+ */
+final class Zipf {
+    private static final long SCATTER = 1_000_000_007L;
+
+    private final long size;
+    private final long offset;
+    private final double[] cumulative;
+
+    /** Ids {@code offset + 1 .. offset + size}. */
+    Zipf(long size, long offset, double exponent) {
+        if (size <= 0 || size >= SCATTER) {
+            throw new IllegalArgumentException("size must be in 1.." + (SCATTER - 1) + ": " + size);
+        }
+        this.size = size;
+        this.offset = offset;
+        this.cumulative = new double[(int) size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    long next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        long rank = index >= 0 ? index : Math.min(size - 1, -index - 1);
+        return offset + 1 + (rank * SCATTER) % size;
+    }
+}
@@ -0,0 +1,23 @@
+#!/usr/bin/env bash
+# Runs the JMH suite with the GC profiler (allocation rate per operation).
+#
+#   ./benchmarks/jmh/run.sh [jmh options...]      e.g. ./benchmarks/jmh/run.sh Jwt -f 2
+#
+# Installs the application classes jar (profile `benchmarks`), builds benchmarks/jmh/target/benchmarks.jar and
+# writes the JSON results to benchmarks/jmh/results/. Compare against baseline.json, recorded with the
+# defaults below on the machine described in the README.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+MODULE="${ROOT}/benchmarks/jmh"
+RESULTS="${MODULE}/results"
+
+mkdir -p "${RESULTS}"
+(cd "${ROOT}" && ./mvnw -B -q install -Pbenchmarks -DskipTests)
+(cd "${MODULE}" && "${ROOT}/mvnw" -B -q package)
+
+java -jar "${MODULE}/target/benchmarks.jar" \
+  -f 1 -wi 3 -w 1s -i 5 -r 1s \
+  -prof gc \
+  -rf json -rff "${RESULTS}/$(date +%Y%m%d-%H%M%S).json" \
+  "$@"
@@ -0,0 +1,75 @@
+package com.luminary.apieden.benchmark;
+
+import com.luminary.apieden.model.database.Product;
+import com.luminary.apieden.model.database.User;
+import com.luminary.apieden.model.response.FindForumComment;
+import com.luminary.apieden.model.response.FindForumResponse;
+import com.luminary.apieden.model.response.ForumUserResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/** Entities shaped like the production rows, so mappers, validators and Jackson see realistic objects. */
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .cpf("42391552076")
+                .name("Pedro Moisés " + id)
+                .userName("pedro.gusmao" + id)
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoO5rYgZl6yWQ1sM8m0JY9y3Wd7Q1nQ5lK")
+                .rating(3.5f)
+                .email("pedro" + id + "@mail.com")
+                .cellphone("11400289220")
+                .build();
+    }
+
+    static Product product(long id, User seller) {
+        return Product.builder()
+                .id(id)
+                .usageTimeId(1)
+                .conditionTypeId(2)
+                .user(seller)
+                .title("PC Gamer " + id)
+                .description("Ryzen 5, 16GB RAM, RTX 3060, pouco uso")
+                .price(3500.0)
+                .maxPrice(4200.0)
+                .senderZipCode("01310100")
+                .premium(id % 10 == 0)
+                .build();
+    }
+
+    static List<Product> products(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(id -> product(id, user(id % 50)))
+                .toList();
+    }
+
+    static ForumUserResponse forumUser(long id) {
+        ForumUserResponse user = new ForumUserResponse();
+        user.setId(id);
+        user.setName("Pedro Moisés " + id);
+        user.setUserName("pedro.gusmao" + id);
+        user.setRating(4.0f);
+        return user;
+    }
+
+    static List<FindForumResponse> forumPosts(int size, int commentsPerPost) {
+        return IntStream.range(0, size)
+                .mapToObj(id -> FindForumResponse.builder()
+                        .id(Integer.toHexString(id))
+                        .postId(id)
+                        .user(forumUser(id % 50))
+                        .content("Alguém sabe onde descartar baterias usadas na zona sul?")
+                        .postDate(LocalDateTime.of(2024, 8, 1, 10, 0).plusMinutes(id))
+                        .comments(IntStream.range(0, commentsPerPost)
+                                .mapToObj(comment -> new FindForumComment(forumUser(comment), "Tem um ecoponto no Ibirapuera"))
+                                .toList())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,61 @@
+package com.luminary.apieden.benchmark;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue as in {@code UserService.token} and parse as in {@code JwtAuthenticationFilter}, which builds a
+ * new parser on every request; {@link #parseSharedParser()} is the same parse with the parser built once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+    private SecretKey secretKey;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        token = issue();
+    }
+
+    @Benchmark
+    public String issue() {
+        return Jwts.builder()
+                .setSubject("pedro.pedro@mail.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 86_400_000))
+                .signWith(secretKey, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public String parse() {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String parseSharedParser() {
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+}
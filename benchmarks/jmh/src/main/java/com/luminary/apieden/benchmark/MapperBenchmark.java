@@ -0,0 +1,98 @@
+package com.luminary.apieden.benchmark;
+
+import com.luminary.apieden.mapper.CartMapper;
+import com.luminary.apieden.mapper.CartMapperImpl;
+import com.luminary.apieden.mapper.OrderMapper;
+import com.luminary.apieden.mapper.OrderMapperImpl;
+import com.luminary.apieden.mapper.UserMapper;
+import com.luminary.apieden.mapper.UserMapperImpl;
+import com.luminary.apieden.model.database.Cart;
+import com.luminary.apieden.model.database.CartItem;
+import com.luminary.apieden.model.database.Order;
+import com.luminary.apieden.model.database.PaymentType;
+import com.luminary.apieden.model.database.Product;
+import com.luminary.apieden.model.database.StatusOrder;
+import com.luminary.apieden.model.database.User;
+import com.luminary.apieden.model.request.RegisterOrderRequest;
+import com.luminary.apieden.model.response.CartItemResponse;
+import com.luminary.apieden.model.response.FindCartItemResponse;
+import com.luminary.apieden.model.response.OrderResponse;
+import com.luminary.apieden.model.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** The MapStruct mappers of the cart, order and user responses. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+    private static final int CART_SIZE = 20;
+
+    private final CartMapper cartMapper = new CartMapperImpl();
+    private final OrderMapper orderMapper = new OrderMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private CartItem cartItem;
+    private Product product;
+    private List<CartItemResponse> cartItemResponses;
+    private RegisterOrderRequest orderRequest;
+    private Order order;
+    private StatusOrder statusOrder;
+    private PaymentType paymentType;
+    private User user;
+    private Cart cart;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user(1);
+        cart = new Cart(1, user.getId(), 7000f);
+        product = Fixtures.product(1, Fixtures.user(2));
+        cartItem = new CartItem(1, cart.getId(), product.getId());
+        cartItemResponses = new ArrayList<>();
+        for (int item = 0; item < CART_SIZE; item++) {
+            cartItemResponses.add(cartMapper.toCartItemResponse(new CartItem(item, 1, item), Fixtures.product(item, user)));
+        }
+        orderRequest = new RegisterOrderRequest();
+        orderRequest.setCartId(cart.getId());
+        orderRequest.setPaymentTypeId(1);
+        orderRequest.setAddressDelivery("Av. Paulista, 1000");
+        statusOrder = new StatusOrder(1, "PENDING", "Pedido aguardando pagamento");
+        paymentType = new PaymentType(1, "PIX", "Pagamento instantâneo");
+        order = orderMapper.toOrder(orderRequest, statusOrder.getId(), LocalDate.of(2024, 8, 1), user.getId(), 7000f);
+    }
+
+    @Benchmark
+    public CartItemResponse cartItemResponse() {
+        return cartMapper.toCartItemResponse(cartItem, product);
+    }
+
+    @Benchmark
+    public FindCartItemResponse findCartItemResponse() {
+        return cartMapper.toFindCartItemResponse(cartItemResponses, 7000f);
+    }
+
+    @Benchmark
+    public Order order() {
+        return orderMapper.toOrder(orderRequest, statusOrder.getId(), LocalDate.of(2024, 8, 1), user.getId(), 7000f);
+    }
+
+    @Benchmark
+    public OrderResponse orderResponse() {
+        return orderMapper.toOrderResponse(order, statusOrder, paymentType);
+    }
+
+    @Benchmark
+    public UserResponse userResponse() {
+        return userMapper.toUserResponse(user, cart);
+    }
+}
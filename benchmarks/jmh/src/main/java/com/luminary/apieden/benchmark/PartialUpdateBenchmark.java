@@ -0,0 +1,99 @@
+package com.luminary.apieden.benchmark;
+
+import com.luminary.apieden.model.database.Product;
+import com.luminary.apieden.repository.ConditionTypeRepository;
+import com.luminary.apieden.repository.OrderItemRepository;
+import com.luminary.apieden.repository.ProductRepository;
+import com.luminary.apieden.repository.UsageTimeRepository;
+import com.luminary.apieden.repository.UserRepository;
+import com.luminary.apieden.service.ProductService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ProductService.partialUpdate} with in-memory repositories, so only the field copying and the bean
+ * validation are measured, next to the validation step alone with a fresh and with a shared validator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartialUpdateBenchmark {
+    private final Map<String, Object> request = Map.of(
+            "title", "PC Gamer RTX",
+            "description", "Ryzen 7, 32GB RAM, RTX 3070",
+            "price", 4100.0,
+            "senderZipCode", "04094050");
+
+    private ProductService productService;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        productService = new ProductService(
+                repository(ProductRepository.class),
+                repository(ConditionTypeRepository.class),
+                repository(UsageTimeRepository.class),
+                repository(UserRepository.class),
+                repository(OrderItemRepository.class),
+                null,
+                validator);
+        product = Fixtures.product(1, Fixtures.user(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public void partialUpdate() {
+        productService.partialUpdate("1", request);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Product>> validateWithNewFactory() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(product);
+        }
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Product>> validateWithSharedValidator() {
+        return validator.validate(product);
+    }
+
+    /** {@code findById} answers a fresh product, {@code save} echoes its argument, guarded updates hit one row. */
+    @SuppressWarnings("unchecked")
+    private static <T> T repository(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "findById" -> Optional.of(Fixtures.product((Long) args[0], Fixtures.user(1)));
+                    case "save" -> args[0];
+                    case "updateDetailsIfAvailable" -> 1;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Compares the blocking (MVC + JPA + Feign) and non-blocking (R2DBC + WebClient) read paths of the same
+# running instance while the database only allows a few connections.
+#
+# Requires a running database and forum API (DB_URL, DB_USERNAME, DB_PASSWORD, R2DBC_URL, URL_MONGO, URL_NEO4J),
+# a JDK 21 and `hey` (https://github.com/rakyll/hey) on the PATH.
+# The actuator metrics are admin-only: ADMIN_EMAIL must be the e-mail of an existing user, which the script
+# makes an admin of the instance it starts.
+#
+#   ./benchmarks/reactive/run.sh [connections] [concurrency] [duration]
+#
+# Both stacks get the same number of database connections (Hikari maximum-pool-size and R2DBC max-size),
+# so the comparison is how many requests each one keeps in flight per connection and what that costs in
+# threads, memory and tail latency. Results land in benchmarks/reactive/results/.
+set -euo pipefail
+
+CONNECTIONS="${1:-1}"
+CONCURRENCY="${2:-200}"
+DURATION="${3:-60s}"
+PORT="${PORT:-8080}"
+USER_ID="${USER_ID:-1}"
+PRODUCT_ID="${PRODUCT_ID:-1}"
+BASE_URL="http://localhost:${PORT}"
+ADMIN_EMAIL="${ADMIN_EMAIL:?set ADMIN_EMAIL to an existing user, the actuator metrics are admin-only}"
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+RESULTS="${ROOT}/benchmarks/reactive/results"
+ENDPOINTS=("/product/getProducts" "/product/getByProductId/${PRODUCT_ID}" "/forum?page=0&size=20")
+
+mkdir -p "${RESULTS}"
+(cd "${ROOT}" && ./mvnw -B -q package -DskipTests)
+JAR="$(ls "${ROOT}"/target/ApiEden-*.jar | grep -v plain | head -n 1)"
+
+admin_token() {
+  curl -s -X POST -H "Content-Type: application/json" -d "{\"email\":\"${ADMIN_EMAIL}\"}" "${BASE_URL}/user/token" \
+    | sed -n 's/.*"token":"\([^"]*\)".*/\1/p'
+}
+
+ADMIN_EMAILS="${ADMIN_EMAIL}" REACTIVE_ENABLED=true CONCURRENCY_LIMIT_ENABLED=false \
+  java -jar "${JAR}" --server.port="${PORT}" \
+  --spring.datasource.hikari.maximum-pool-size="${CONNECTIONS}" \
+  --spring.datasource.hikari.minimum-idle="${CONNECTIONS}" \
+  --reactive.r2dbc.initial-size="${CONNECTIONS}" \
+  --reactive.r2dbc.max-size="${CONNECTIONS}" \
+  > "${RESULTS}/app.log" 2>&1 &
+PID=$!
+trap 'kill ${PID} 2>/dev/null || true' EXIT
+until curl -sf "${BASE_URL}/actuator/health" > /dev/null; do sleep 1; done
+TOKEN="$(admin_token)"
+
+metric() {
+  curl -s -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/actuator/metrics/$1" | sed -n 's/.*"value":\([0-9.E+-]*\).*/\1/p' | head -n 1
+}
+
+run_stack() {
+  local stack="$1" prefix="$2" out="${RESULTS}/$1-${CONNECTIONS}conn.txt"
+  for endpoint in "${ENDPOINTS[@]}"; do
+    hey -z 10s -c 20 -H "userId: ${USER_ID}" "${BASE_URL}${prefix}${endpoint}" > /dev/null
+  done
+  {
+    echo "stack=${stack} connections=${CONNECTIONS} concurrency=${CONCURRENCY} duration=${DURATION}"
+    for endpoint in "${ENDPOINTS[@]}"; do
+      echo "== ${prefix}${endpoint}"
+      hey -z "${DURATION}" -c "${CONCURRENCY}" -H "userId: ${USER_ID}" "${BASE_URL}${prefix}${endpoint}" \
+        | grep -E "Requests/sec|Average|Slowest|50%|95%|99%|\[[0-9]{3}\]"
+      echo "jvm.threads.live=$(metric jvm.threads.live)"
+    done
+    echo "jvm.threads.peak=$(metric jvm.threads.peak)"
+    echo "rss.kb=$(ps -o rss= -p "${PID}" | tr -d ' ')"
+  } | tee "${out}"
+}
+
+run_stack blocking ""
+run_stack reactive "/reactive"
+diff -y "${RESULTS}/blocking-${CONNECTIONS}conn.txt" "${RESULTS}/reactive-${CONNECTIONS}conn.txt" || true
@@ -0,0 +1,229 @@
+package com.luminary.apieden.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Plays a traffic capture against a running instance and writes per-route latency distributions, or compares
+ * two such result files.
+ *
+ * <pre>
+ * java -jar replay.jar run --capture=captures/ --target=http://localhost:8080 [--speed=1] [--token=...]
+ *     [--header=Name: value] [--timeout=PT10S] [--max-in-flight=1000] [--out=results/run.json]
+ * java -jar replay.jar diff results/before.json results/after.json
+ * </pre>
+ *
+ * Requests are sent open loop at their captured start offsets divided by {@code --speed}, each on its own
+ * virtual thread, so the concurrency of the capture is kept (and multiplied at higher speeds). Latency is
+ * measured from the scheduled start, so a stalled target is not hidden by requests being sent late.
+ */
+public final class Replay {
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("host", "connection", "content-length", "expect",
+            "upgrade", "transfer-encoding", "keep-alive", "te", "trailer", "http2-settings");
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private Replay() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> positional = new ArrayList<>();
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int equals = arg.indexOf('=');
+                options.put(equals < 0 ? arg.substring(2) : arg.substring(2, equals), equals < 0 ? "true" : arg.substring(equals + 1));
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (!positional.isEmpty() && positional.get(0).equals("run") && options.containsKey("capture") && options.containsKey("target")) {
+            run(options);
+        } else if (positional.size() == 3 && positional.get(0).equals("diff")) {
+            diff(Path.of(positional.get(1)), Path.of(positional.get(2)));
+        } else {
+            System.err.println("usage: java -jar replay.jar run --capture=<file|dir> --target=<url> [--speed=1] [--token=...] "
+                    + "[--header='Name: value'] [--timeout=PT10S] [--max-in-flight=1000] [--out=<file>]");
+            System.err.println("       java -jar replay.jar diff <before.json> <after.json>");
+            System.exit(2);
+        }
+    }
+
+    private static void run(Map<String, String> options) throws Exception {
+        URI target = URI.create(options.get("target").replaceAll("/+$", ""));
+        double speed = Double.parseDouble(options.getOrDefault("speed", "1"));
+        Duration timeout = Duration.parse(options.getOrDefault("timeout", "PT10S"));
+        Semaphore inFlight = new Semaphore(Integer.parseInt(options.getOrDefault("max-in-flight", "1000")));
+        Map<String, String> extraHeaders = new HashMap<>();
+        if (options.containsKey("token")) {
+            extraHeaders.put("Authorization", "Bearer " + options.get("token"));
+        }
+        if (options.containsKey("header")) {
+            String[] header = options.get("header").split(":", 2);
+            extraHeaders.put(header[0].trim(), header[1].trim());
+        }
+        Path out = Path.of(options.getOrDefault("out",
+                "results/replay-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        RouteLatencies replayed = new RouteLatencies();
+        RouteLatencies captured = new RouteLatencies();
+        LongAdder skipped = new LongAdder();
+        LongAdder throttled = new LongAdder();
+        long sent = 0;
+        long firstStartedAt = -1;
+        long replayStart = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Path file : captureFiles(Path.of(options.get("capture")))) {
+                try (BufferedReader reader = Files.newBufferedReader(file)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        Trace trace = JSON.readValue(line, Trace.class);
+                        captured.record(trace.key(), trace.durationMicros(), trace.status() >= 500, false);
+                        if (!trace.replayable()) {
+                            skipped.increment();
+                            continue;
+                        }
+                        if (firstStartedAt < 0) {
+                            firstStartedAt = trace.startedAt();
+                        }
+                        long due = replayStart + (long) (TimeUnit.MILLISECONDS.toNanos(trace.startedAt() - firstStartedAt) / speed);
+                        for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                            LockSupport.parkNanos(wait);
+                        }
+                        if (!inFlight.tryAcquire()) {
+                            throttled.increment();
+                            inFlight.acquire();
+                        }
+                        HttpRequest request = request(target, trace, extraHeaders, timeout);
+                        executor.execute(() -> {
+                            try {
+                                send(client, request, trace, due, replayed);
+                            } finally {
+                                inFlight.release();
+                            }
+                        });
+                        sent++;
+                    }
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - replayStart) / 1e9;
+
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        JSON.writeValue(out.toFile(), new Result(target.toString(), speed, sent, skipped.sum(), throttled.sum(), seconds,
+                replayed.summaries(), captured.summaries()));
+        System.out.printf("Sent %,d requests in %.1fs, skipped %,d without a captured body, %,d waited for --max-in-flight%n",
+                sent, seconds, skipped.sum(), throttled.sum());
+        printTable(replayed.summaries());
+        System.out.println("Results written to " + out);
+    }
+
+    private static List<Path> captureFiles(Path capture) throws IOException {
+        if (!Files.isDirectory(capture)) {
+            return List.of(capture);
+        }
+        try (Stream<Path> files = Files.list(capture)) {
+            return files.filter(file -> file.toString().endsWith(".ndjson")).sorted().toList();
+        }
+    }
+
+    private static HttpRequest request(URI target, Trace trace, Map<String, String> extraHeaders, Duration timeout) {
+        String uri = target + trace.path() + (trace.query() != null ? "?" + trace.query() : "");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(timeout)
+                .method(trace.method(), trace.body() != null
+                        ? HttpRequest.BodyPublishers.ofString(trace.body())
+                        : HttpRequest.BodyPublishers.noBody());
+        if (trace.headers() != null) {
+            trace.headers().forEach((name, value) -> {
+                if (!RESTRICTED_HEADERS.contains(name.toLowerCase()) && !extraHeaders.containsKey(name)) {
+                    builder.header(name, value);
+                }
+            });
+        }
+        extraHeaders.forEach(builder::header);
+        return builder.build();
+    }
+
+    private static void send(HttpClient client, HttpRequest request, Trace trace, long due, RouteLatencies replayed) {
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException failure) {
+            status = -1;
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due);
+        replayed.record(trace.key(), micros, status < 0 || status >= 500, status != trace.status());
+    }
+
+    private static void diff(Path before, Path after) throws IOException {
+        Result a = JSON.readValue(before.toFile(), Result.class);
+        Result b = JSON.readValue(after.toFile(), Result.class);
+        System.out.printf("%s (%s) -> %s (%s), latency in ms%n%n", before.getFileName(), a.target(), after.getFileName(), b.target());
+        System.out.println("| Route | Count | p50 | p90 | p99 | p99.9 | Errors |");
+        System.out.println("|-------|-------|-----|-----|-----|-------|--------|");
+        Set<String> routes = new TreeSet<>(a.routes().keySet());
+        routes.addAll(b.routes().keySet());
+        for (String route : routes) {
+            RouteLatencies.Summary x = a.routes().get(route);
+            RouteLatencies.Summary y = b.routes().get(route);
+            if (x == null || y == null) {
+                System.out.printf("| %s | %s | only in %s | | | | |%n", route, x != null ? x.count() : y.count(),
+                        x != null ? before.getFileName() : after.getFileName());
+                continue;
+            }
+            System.out.printf("| %s | %d / %d | %s | %s | %s | %s | %d / %d |%n", route, x.count(), y.count(),
+                    change(x.p50(), y.p50()), change(x.p90(), y.p90()), change(x.p99(), y.p99()),
+                    change(x.p999(), y.p999()), x.errors(), y.errors());
+        }
+    }
+
+    private static String change(double before, double after) {
+        return String.format("%.1f -> %.1f (%+.0f%%)", before, after, before == 0 ? 0 : (after - before) * 100 / before);
+    }
+
+    private static void printTable(Map<String, RouteLatencies.Summary> summaries) {
+        System.out.printf("%-45s %8s %9s %9s %9s %9s %7s%n", "Route", "Count", "p50 ms", "p90 ms", "p99 ms", "max ms", "Errors");
+        summaries.forEach((route, summary) -> System.out.printf("%-45.45s %8d %9.1f %9.1f %9.1f %9.1f %7d%n", route,
+                summary.count(), summary.p50(), summary.p90(), summary.p99(), summary.max(), summary.errors()));
+    }
+
+    /** {@code captured} holds the durations measured inside the application when the traffic was recorded. */
+    record Result(String target, double speed, long sent, long skipped, long throttled, double seconds,
+                  Map<String, RouteLatencies.Summary> routes, Map<String, RouteLatencies.Summary> captured) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.luminary.apieden.replay;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Latency histograms in microseconds per route ({@code METHOD /pattern}), plus errors and status mismatches. */
+final class RouteLatencies {
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    void record(String route, long micros, boolean error, boolean statusMismatch) {
+        Route stats = routes.computeIfAbsent(route, ignored -> new Route());
+        stats.histogram.recordValue(Math.max(1, micros));
+        if (error) {
+            stats.errors.increment();
+        }
+        if (statusMismatch) {
+            stats.statusMismatches.increment();
+        }
+    }
+
+    Map<String, Summary> summaries() {
+        Map<String, Summary> summaries = new TreeMap<>();
+        routes.forEach((route, stats) -> summaries.put(route, Summary.of(stats.histogram,
+                stats.errors.sum(), stats.statusMismatches.sum())));
+        return summaries;
+    }
+
+    private static final class Route {
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder statusMismatches = new LongAdder();
+    }
+
+    /**
+     * Percentiles in milliseconds for reading, and the whole distribution as a compressed, base64 encoded
+     * HdrHistogram so runs can be compared at any percentile later.
+     */
+    record Summary(long count, long errors, long statusMismatches,
+                   double p50, double p90, double p99, double p999, double max,
+                   String histogram) {
+
+        static Summary of(Histogram histogram, long errors, long statusMismatches) {
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            return new Summary(histogram.getTotalCount(), errors, statusMismatches,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0,
+                    Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
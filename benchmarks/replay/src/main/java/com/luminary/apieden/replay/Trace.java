@@ -0,0 +1,28 @@
+package com.luminary.apieden.replay;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Map;
+
+/** One line of a capture file, as written by the application's {@code TrafficCaptureWriter}. */
+@JsonIgnoreProperties(ignoreUnknown = true)
+record Trace(long startedAt,
+             String method,
+             String route,
+             String path,
+             String query,
+             Map<String, String> headers,
+             long bodyLength,
+             String bodySha256,
+             String body,
+             int status,
+             long durationMicros) {
+
+    String key() {
+        return method + " " + (route != null ? route : path);
+    }
+
+    boolean replayable() {
+        return bodyLength == 0 || body != null;
+    }
+}
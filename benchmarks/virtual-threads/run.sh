@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+# Compares platform-thread and virtual-thread execution under the same load.
+#
+# Requires a running database and downstream APIs (DB_URL, DB_USERNAME, DB_PASSWORD, URL_MONGO, URL_NEO4J),
+# a JDK 21 and `hey` (https://github.com/rakyll/hey) on the PATH.
+# The actuator metrics are admin-only: ADMIN_EMAIL must be the e-mail of an existing user, which the script
+# makes an admin of the instance it starts.
+#
+#   ./benchmarks/virtual-threads/run.sh [concurrency] [duration]
+#
+# For each mode the jar is started with the same heap, warmed up, and driven with `hey` against a mix of
+# read endpoints. Throughput/latency come from `hey`; peak live threads, heap and RSS are sampled from the
+# actuator and `ps` at the end of the run. Results land in benchmarks/virtual-threads/results/.
+set -euo pipefail
+
+CONCURRENCY="${1:-200}"
+DURATION="${2:-60s}"
+PORT="${PORT:-8080}"
+HEAP="${HEAP:-512m}"
+BASE_URL="http://localhost:${PORT}"
+ADMIN_EMAIL="${ADMIN_EMAIL:?set ADMIN_EMAIL to an existing user, the actuator metrics are admin-only}"
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+RESULTS="${ROOT}/benchmarks/virtual-threads/results"
+ENDPOINTS=("/product/getProducts?userId=1" "/leaderboard?limit=20" "/forum?page=0&size=20" "/card/user/1")
+
+mkdir -p "${RESULTS}"
+(cd "${ROOT}" && ./mvnw -B -q package -DskipTests)
+JAR="$(ls "${ROOT}"/target/ApiEden-*.jar | grep -v plain | head -n 1)"
+
+admin_token() {
+  curl -s -X POST -H "Content-Type: application/json" -d "{\"email\":\"${ADMIN_EMAIL}\"}" "${BASE_URL}/user/token" \
+    | sed -n 's/.*"token":"\([^"]*\)".*/\1/p'
+}
+
+metric() {
+  curl -s -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/actuator/metrics/$1" | sed -n 's/.*"value":\([0-9.E+-]*\).*/\1/p' | head -n 1
+}
+
+run_mode() {
+  local mode="$1" virtual="$2" out="${RESULTS}/$1.txt"
+  local extra_opts=()
+  if [[ "${virtual}" == "true" ]]; then
+    extra_opts+=("-Djdk.tracePinnedThreads=short")
+  fi
+  VIRTUAL_THREADS_ENABLED="${virtual}" CONCURRENCY_LIMIT_ENABLED=false \
+    java -Xms"${HEAP}" -Xmx"${HEAP}" "${extra_opts[@]}" -jar "${JAR}" --server.port="${PORT}" \
+    > "${RESULTS}/${mode}.log" 2>&1 &
+  local pid=$!
+  trap 'kill ${pid} 2>/dev/null || true' EXIT
+  until curl -sf "${BASE_URL}/actuator/health" > /dev/null; do sleep 1; done
+  TOKEN="$(admin_token)"
+
+  for endpoint in "${ENDPOINTS[@]}"; do
+    hey -z 10s -c 20 "${BASE_URL}${endpoint}" > /dev/null
+  done
+
+  {
+    echo "mode=${mode} concurrency=${CONCURRENCY} duration=${DURATION} heap=${HEAP}"
+    for endpoint in "${ENDPOINTS[@]}"; do
+      echo "== ${endpoint}"
+      hey -z "${DURATION}" -c "${CONCURRENCY}" "${BASE_URL}${endpoint}" \
+        | grep -E "Requests/sec|Average|Slowest|50%|95%|99%|\[[0-9]{3}\]"
+    done
+    echo "== resources"
+    echo "jvm.threads.peak=$(metric jvm.threads.peak)"
+    echo "jvm.memory.used.heap=$(curl -s -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/actuator/metrics/jvm.memory.used?tag=area:heap" | sed -n 's/.*"value":\([0-9.E+-]*\).*/\1/p' | head -n 1)"
+    echo "jvm.memory.used.nonheap=$(curl -s -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/actuator/metrics/jvm.memory.used?tag=area:nonheap" | sed -n 's/.*"value":\([0-9.E+-]*\).*/\1/p' | head -n 1)"
+    echo "rss.kb=$(ps -o rss= -p "${pid}" | tr -d ' ')"
+    echo "pinned.events=$(grep -c '<== monitors' "${RESULTS}/${mode}.log" || true)"
+  } | tee "${out}"
+
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+diff -y "${RESULTS}/platform.txt" "${RESULTS}/virtual.txt" || true
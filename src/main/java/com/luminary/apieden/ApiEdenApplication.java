@@ -4,7 +4,9 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @OpenAPIDefinition(info = @Info(
@@ -12,6 +14,8 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 		description = "Api with basic operations from the database of Eden",
 		version = "1"))
 @EnableFeignClients
+@EnableScheduling
+@EnableCaching
 public class ApiEdenApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,120 @@
+package com.luminary.apieden.client;
+
+import com.luminary.apieden.config.ForumCacheProperties;
+import com.luminary.apieden.model.client.ForumResponse;
+import com.luminary.apieden.model.exception.HttpError;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stale-while-revalidate cache of {@link ForumClient#findAll()}. Readers always get the last good snapshot
+ * right away; once it is older than the TTL a single background refresh is started, no matter how many
+ * readers notice it. Failed refreshes keep the old snapshot and are retried after a backoff.
+ */
+@Slf4j
+@Component
+public class ForumSnapshotCache {
+    private final ForumClient forumClient;
+    private final Executor executor;
+    private final ForumCacheProperties properties;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+    private volatile Instant lastFailure = Instant.MIN;
+
+    public ForumSnapshotCache(ForumClient forumClient,
+                              @Qualifier("forumExecutor") Executor executor,
+                              ForumCacheProperties properties) {
+        this.forumClient = forumClient;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    public List<ForumResponse> posts() {
+        return snapshot().posts();
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return awaitFirstLoad();
+        }
+        if (current.isOlderThan(properties.getTtl()) && !inFailureBackoff()) {
+            refresh();
+        }
+        return current;
+    }
+
+    /**
+     * Last snapshot loaded, without triggering any refresh. Empty until the first successful load.
+     */
+    public Optional<Snapshot> peek() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    public CompletableFuture<Snapshot> refresh() {
+        while (true) {
+            CompletableFuture<Snapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Snapshot> created = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, created)) {
+                try {
+                    executor.execute(() -> load(created));
+                } catch (RejectedExecutionException rejected) {
+                    inFlight.compareAndSet(created, null);
+                    created.completeExceptionally(rejected);
+                }
+                return created;
+            }
+        }
+    }
+
+    private void load(CompletableFuture<Snapshot> target) {
+        try {
+            Snapshot loaded = new Snapshot(List.copyOf(forumClient.findAll()), Instant.now());
+            snapshot.set(loaded);
+            log.info("[FORUM CACHE] Snapshot refreshed with {} posts", loaded.posts().size());
+            inFlight.compareAndSet(target, null);
+            target.complete(loaded);
+        } catch (RuntimeException failure) {
+            lastFailure = Instant.now();
+            log.warn("[FORUM CACHE] Refresh failed, keeping last snapshot: {}", failure.toString());
+            inFlight.compareAndSet(target, null);
+            target.completeExceptionally(failure);
+        }
+    }
+
+    private Snapshot awaitFirstLoad() {
+        try {
+            return refresh().join();
+        } catch (CompletionException failure) {
+            if (failure.getCause() instanceof HttpError httpError) {
+                throw httpError;
+            }
+            throw new HttpError(HttpStatus.SERVICE_UNAVAILABLE, "Fórum indisponível no momento, tente novamente");
+        }
+    }
+
+    private boolean inFailureBackoff() {
+        return lastFailure.plus(properties.getFailureBackoff()).isAfter(Instant.now());
+    }
+
+    public record Snapshot(List<ForumResponse> posts, Instant fetchedAt) {
+        boolean isOlderThan(Duration ttl) {
+            return fetchedAt.plus(ttl).isBefore(Instant.now());
+        }
+    }
+}
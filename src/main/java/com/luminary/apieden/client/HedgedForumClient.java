@@ -0,0 +1,177 @@
+package com.luminary.apieden.client;
+
+import com.luminary.apieden.config.ForumHedgeProperties;
+import com.luminary.apieden.model.client.ForumResponse;
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.util.LatencyWindow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hedged {@link ForumClient#findById(String)}: when the first call has not answered within the observed
+ * latency percentile, a second identical call is sent and whichever answers first wins. The loser is
+ * cancelled: dropped from the queue if it had not started, otherwise interrupted, which the blocking HTTP client
+ * does not react to, so a call already sent keeps its thread until it answers or hits the read timeout and its
+ * result is discarded. Hedges are paid for out of a token budget refilled by primary calls, so they never add
+ * more than {@code budget-ratio} extra load.
+ */
+@Slf4j
+@Component
+public class HedgedForumClient {
+    private final ForumClient forumClient;
+    private final Executor executor;
+    private final ForumHedgeProperties properties;
+    private final LatencyWindow latencies;
+    private final Counter calls;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+    private final Counter budgetExhausted;
+    private final Timer savedLatency;
+    private double tokens;
+
+    public HedgedForumClient(ForumClient forumClient,
+                             @Qualifier("forumHedgeExecutor") Executor executor,
+                             ForumHedgeProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.forumClient = forumClient;
+        this.executor = executor;
+        this.properties = properties;
+        this.latencies = new LatencyWindow(properties.getWindow());
+        this.calls = meterRegistry.counter("forum.hedge.calls");
+        this.hedges = meterRegistry.counter("forum.hedge.sent");
+        this.hedgeWins = meterRegistry.counter("forum.hedge.wins");
+        this.budgetExhausted = meterRegistry.counter("forum.hedge.budget.exhausted");
+        this.savedLatency = Timer.builder("forum.hedge.saved")
+                .description("Latency a winning hedge saved over the primary call it replaced")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        meterRegistry.gauge("forum.hedge.delay", latencies, window -> window.percentile(properties.getPercentile()));
+    }
+
+    public List<ForumResponse> findById(String userId) {
+        if (!properties.isEnabled()) {
+            return forumClient.findById(userId);
+        }
+        calls.increment();
+        refillBudget();
+        Race race = new Race();
+        CompletionService<List<ForumResponse>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<List<ForumResponse>>> attempts = new ArrayList<>(2);
+        try {
+            attempts.add(completion.submit(() -> race.primary(() -> forumClient.findById(userId))));
+        } catch (RejectedExecutionException rejected) {
+            return forumClient.findById(userId);
+        }
+        try {
+            Future<List<ForumResponse>> first = completion.poll(hedgeDelay(), TimeUnit.NANOSECONDS);
+            if (first == null) {
+                tryHedge(completion, attempts, () -> forumClient.findById(userId));
+                first = completion.take();
+            }
+            return firstSuccessful(first, completion, attempts, race);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw new HttpError(HttpStatus.SERVICE_UNAVAILABLE, "Busca do fórum interrompida");
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    private List<ForumResponse> firstSuccessful(Future<List<ForumResponse>> first,
+                                                CompletionService<List<ForumResponse>> completion,
+                                                List<Future<List<ForumResponse>>> attempts,
+                                                Race race) throws InterruptedException {
+        Future<List<ForumResponse>> done = first;
+        for (int remaining = attempts.size(); ; remaining--) {
+            try {
+                List<ForumResponse> result = done.get();
+                if (done != attempts.get(0)) {
+                    hedgeWins.increment();
+                    race.hedgeWon();
+                }
+                return result;
+            } catch (ExecutionException failed) {
+                if (remaining == 1) {
+                    throw failed.getCause() instanceof RuntimeException runtime
+                            ? runtime : new IllegalStateException(failed.getCause());
+                }
+                done = completion.take();
+            }
+        }
+    }
+
+    private void tryHedge(CompletionService<List<ForumResponse>> completion,
+                             List<Future<List<ForumResponse>>> attempts,
+                             Callable<List<ForumResponse>> call) {
+        if (!takeToken()) {
+            budgetExhausted.increment();
+            return;
+        }
+        try {
+            attempts.add(completion.submit(call));
+            hedges.increment();
+        } catch (RejectedExecutionException rejected) {
+            log.debug("[FORUM HEDGE] Hedge pool saturated, waiting on the primary call");
+        }
+    }
+
+    private long hedgeDelay() {
+        long minDelay = properties.getMinDelay().toNanos();
+        if (latencies.size() < properties.getMinSamples()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(minDelay, latencies.percentile(properties.getPercentile()));
+    }
+
+    private synchronized void refillBudget() {
+        tokens = Math.min(properties.getMaxBurst(), tokens + properties.getBudgetRatio());
+    }
+
+    private synchronized boolean takeToken() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Timing of one hedged lookup. Primary latencies feed the percentile window; if the hedge won and the
+     * primary still finishes afterwards, the difference is what the hedge saved.
+     */
+    private class Race {
+        private final long start = System.nanoTime();
+        private volatile long hedgeWonAt = -1;
+
+        List<ForumResponse> primary(Callable<List<ForumResponse>> call) throws Exception {
+            List<ForumResponse> result = call.call();
+            long elapsed = System.nanoTime() - start;
+            latencies.record(elapsed);
+            long wonAt = hedgeWonAt;
+            if (wonAt >= 0) {
+                savedLatency.record(elapsed - wonAt, TimeUnit.NANOSECONDS);
+            }
+            return result;
+        }
+
+        void hedgeWon() {
+            hedgeWonAt = System.nanoTime() - start;
+        }
+    }
+}
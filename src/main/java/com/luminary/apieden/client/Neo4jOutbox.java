@@ -0,0 +1,115 @@
+package com.luminary.apieden.client;
+
+import com.luminary.apieden.model.client.CreateRelationshipRequest;
+import com.luminary.apieden.model.client.CreateUserRequest;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Holds Neo4j writes that could not be delivered because the graph API was down, slow or shedding load,
+ * and replays them in order once the circuit lets calls through again. Bounded: when full the oldest write
+ * is dropped. Pending writes are in memory only and are lost on restart. Writes deferred inside a transaction
+ * are only queued once it commits, so a rolled back registration or checkout never reaches the graph.
+ */
+@Slf4j
+@Component
+public class Neo4jOutbox {
+    private final Neo4jClient neo4jClient;
+    private final int capacity;
+    private final Deque<PendingWrite> pending = new ArrayDeque<>();
+
+    public Neo4jOutbox(Neo4jClient neo4jClient,
+                       @Value("${resilience.neo4j-outbox.capacity:10000}") int capacity,
+                       MeterRegistry meterRegistry) {
+        this.neo4jClient = neo4jClient;
+        this.capacity = capacity;
+        meterRegistry.gauge("neo4j.outbox.pending", this, Neo4jOutbox::size);
+    }
+
+    public void createUser(CreateUserRequest request) {
+        deferAfterCommit(new CreateUser(request));
+    }
+
+    public void createRelationship(List<CreateRelationshipRequest> request) {
+        deferAfterCommit(new CreateRelationship(request));
+    }
+
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${resilience.neo4j-outbox.retry-interval:PT30S}")
+    public void drain() {
+        PendingWrite write;
+        while ((write = peekFirst()) != null) {
+            try {
+                write.send(neo4jClient);
+            } catch (FeignException.FeignClientException rejected) {
+                log.error("[NEO4J OUTBOX] Neo4j rejected a deferred write, dropping it: {}", rejected.status());
+            } catch (RuntimeException unavailable) {
+                log.warn("[NEO4J OUTBOX] Neo4j still unavailable, {} writes pending", size());
+                return;
+            }
+            removeFirst(write);
+        }
+    }
+
+    private void deferAfterCommit(PendingWrite write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            defer(write);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                defer(write);
+            }
+        });
+    }
+
+    private synchronized void defer(PendingWrite write) {
+        if (pending.size() >= capacity) {
+            log.error("[NEO4J OUTBOX] Outbox full, dropping oldest write");
+            pending.pollFirst();
+        }
+        pending.addLast(write);
+    }
+
+    private synchronized PendingWrite peekFirst() {
+        return pending.peekFirst();
+    }
+
+    private synchronized void removeFirst(PendingWrite write) {
+        if (pending.peekFirst() == write) {
+            pending.pollFirst();
+        }
+    }
+
+    private sealed interface PendingWrite permits CreateUser, CreateRelationship {
+        void send(Neo4jClient client);
+    }
+
+    private record CreateUser(CreateUserRequest request) implements PendingWrite {
+        @Override
+        public void send(Neo4jClient client) {
+            client.createUser(request);
+        }
+    }
+
+    private record CreateRelationship(List<CreateRelationshipRequest> request) implements PendingWrite {
+        @Override
+        public void send(Neo4jClient client) {
+            client.createRelationship(request);
+        }
+    }
+}
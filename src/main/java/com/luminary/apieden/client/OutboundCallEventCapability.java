@@ -0,0 +1,52 @@
+package com.luminary.apieden.client;
+
+import com.luminary.apieden.model.jfr.OutboundCallEvent;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+
+/** Emits an {@link OutboundCallEvent} around every Feign attempt. Near free while no recording is running. */
+public class OutboundCallEventCapability implements Capability {
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            OutboundCallEvent event = new OutboundCallEvent();
+            if (!event.isEnabled()) {
+                return client.execute(request, options);
+            }
+            event.begin();
+            try {
+                Response response = client.execute(request, options);
+                event.setStatus(response.status());
+                event.setResponseSize(response.body() != null && response.body().length() != null ? response.body().length() : -1);
+                return response;
+            } catch (IOException | RuntimeException failure) {
+                event.setStatus(-1);
+                event.setError(failure.getClass().getSimpleName());
+                throw failure;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    describe(event, request);
+                    event.commit();
+                }
+            }
+        };
+    }
+
+    private static void describe(OutboundCallEvent event, Request request) {
+        event.setHttpMethod(request.httpMethod().name());
+        event.setUrl(request.url());
+        if (request.requestTemplate() != null) {
+            if (request.requestTemplate().feignTarget() != null) {
+                event.setClient(request.requestTemplate().feignTarget().name());
+            }
+            if (request.requestTemplate().methodMetadata() != null) {
+                event.setMethod(request.requestTemplate().methodMetadata().configKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.luminary.apieden.client;
+
+import com.luminary.apieden.config.OutboundHttpProperties;
+import com.luminary.apieden.config.OutboundHttpProperties.MethodPolicy;
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@code outbound.methods.<client>.<method>} policies: per-method connect/read timeouts on top of the
+ * client-wide ones, and bounded retries of connection/read failures. Only GETs are retried, writes to the
+ * graph API are never replayed from here.
+ */
+@RequiredArgsConstructor
+public class OutboundPolicyCapability implements Capability {
+    private final OutboundHttpProperties properties;
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> client.execute(request, policy(request)
+                .map(policy -> withTimeouts(options, policy))
+                .orElse(options));
+    }
+
+    @Override
+    public Retryer enrich(Retryer retryer) {
+        return new PolicyRetryer();
+    }
+
+    private Optional<MethodPolicy> policy(Request request) {
+        if (request == null || request.requestTemplate() == null) {
+            return Optional.empty();
+        }
+        MethodMetadata metadata = request.requestTemplate().methodMetadata();
+        if (metadata == null || metadata.method() == null || request.requestTemplate().feignTarget() == null) {
+            return Optional.empty();
+        }
+        return properties.policy(request.requestTemplate().feignTarget().name(), metadata.method().getName());
+    }
+
+    private static Request.Options withTimeouts(Request.Options options, MethodPolicy policy) {
+        long connectTimeout = policy.getConnectTimeout() == null
+                ? options.connectTimeoutMillis() : policy.getConnectTimeout().toMillis();
+        long readTimeout = policy.getReadTimeout() == null
+                ? options.readTimeoutMillis() : policy.getReadTimeout().toMillis();
+        return new Request.Options(connectTimeout, TimeUnit.MILLISECONDS, readTimeout, TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+    }
+
+    private class PolicyRetryer implements Retryer {
+        private int attempt = 1;
+
+        @Override
+        public void continueOrPropagate(RetryableException exception) {
+            MethodPolicy policy = exception.method() == Request.HttpMethod.GET
+                    ? policy(exception.request()).orElse(null) : null;
+            if (policy == null || attempt++ >= policy.getMaxAttempts()) {
+                throw exception;
+            }
+            try {
+                Thread.sleep(policy.getBackoff().multipliedBy(attempt - 1).toMillis());
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                throw exception;
+            }
+        }
+
+        @Override
+        public Retryer clone() {
+            return new PolicyRetryer();
+        }
+    }
+}
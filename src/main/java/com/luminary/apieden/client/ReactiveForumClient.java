@@ -0,0 +1,47 @@
+package com.luminary.apieden.client;
+
+import com.luminary.apieden.config.ResilienceProperties;
+import com.luminary.apieden.model.client.ForumResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+/**
+ * WebClient counterpart of {@link ForumClient}. Calls go through the same {@code forumApi} circuit breaker as
+ * the Feign client, so both stacks see the forum API as open or closed together.
+ */
+@Component
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveForumClient {
+    private static final String FORUM_API = "forumApi";
+
+    private final WebClient forumWebClient;
+    private final CircuitBreaker circuitBreaker;
+
+    public ReactiveForumClient(WebClient forumWebClient, CircuitBreakerRegistry circuitBreakerRegistry,
+                               ResilienceProperties resilienceProperties) {
+        this.forumWebClient = forumWebClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(FORUM_API,
+                resilienceProperties.forDownstream(FORUM_API).toCircuitBreakerConfig());
+    }
+
+    public Flux<ForumResponse> findAll() {
+        return get("/forum");
+    }
+
+    public Flux<ForumResponse> findById(String userId) {
+        return get("/forum/user/{userId}", userId);
+    }
+
+    private Flux<ForumResponse> get(String uri, Object... variables) {
+        return forumWebClient.get()
+                .uri(uri, variables)
+                .retrieve()
+                .bodyToFlux(ForumResponse.class)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+}
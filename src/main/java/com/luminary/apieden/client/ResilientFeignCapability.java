@@ -0,0 +1,49 @@
+package com.luminary.apieden.client;
+
+import com.luminary.apieden.config.ResilienceProperties;
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.InvocationHandler;
+
+/**
+ * Wraps every Feign client method in a semaphore bulkhead and a circuit breaker named after the client
+ * ({@code forumApi}, {@code neo4jClient}). 4xx answers are a caller problem and don't count as failures.
+ * Rejected calls fail fast with {@code BulkheadFullException} or {@code CallNotPermittedException}.
+ */
+@RequiredArgsConstructor
+public class ResilientFeignCapability implements Capability {
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ResilienceProperties properties;
+
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            InvocationHandler delegate = invocationHandlerFactory.create(target, dispatch);
+            CircuitBreaker circuitBreaker = circuitBreaker(target.name());
+            Bulkhead bulkhead = bulkhead(target.name());
+            return (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return delegate.invoke(proxy, method, args);
+                }
+                return Bulkhead.decorateCheckedSupplier(bulkhead,
+                        CircuitBreaker.decorateCheckedSupplier(circuitBreaker,
+                                () -> delegate.invoke(proxy, method, args))).get();
+            };
+        };
+    }
+
+    private CircuitBreaker circuitBreaker(String name) {
+        return circuitBreakerRegistry.circuitBreaker(name, properties.forDownstream(name).toCircuitBreakerConfig());
+    }
+
+    private Bulkhead bulkhead(String name) {
+        return bulkheadRegistry.bulkhead(name, properties.forDownstream(name).toBulkheadConfig());
+    }
+}
@@ -0,0 +1,17 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "admin")
+public class AdminProperties {
+    /** Users granted {@code ROLE_ADMIN}, which the {@code /admin} endpoints require. */
+    private Set<String> emails = Set.of();
+}
@@ -0,0 +1,51 @@
+package com.luminary.apieden.config;
+
+import com.luminary.apieden.util.AdaptiveLimiter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private AdaptiveLimiter.Algorithm algorithm = AdaptiveLimiter.Algorithm.GRADIENT;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Route read = new Route(20, 4, 200);
+    private Route write = new Route(4, 1, 20);
+
+    @Getter
+    @Setter
+    public static class Route {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        /** Weight of each new estimate in the limit, 0..1. */
+        private double smoothing = 0.2;
+        /** Gradient: how much slower than the baseline latency is still considered healthy. */
+        private double rttTolerance = 1.5;
+        /** AIMD: a sample slower than this counts as a drop. */
+        private Duration timeout = Duration.ofSeconds(5);
+        /** Factor applied to the limit on a drop. */
+        private double backoffRatio = 0.9;
+
+        public Route() {
+        }
+
+        public Route(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        public AdaptiveLimiter toLimiter(AdaptiveLimiter.Algorithm algorithm) {
+            return new AdaptiveLimiter(algorithm, initialLimit, minLimit, maxLimit, smoothing, rttTolerance,
+                    timeout.toNanos(), backoffRatio);
+        }
+    }
+}
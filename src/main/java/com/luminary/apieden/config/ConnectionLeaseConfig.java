@@ -0,0 +1,21 @@
+package com.luminary.apieden.config;
+
+import com.luminary.apieden.filter.ConnectionLeaseFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "connection-lease", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionLeaseConfig {
+    @Bean
+    public FilterRegistrationBean<ConnectionLeaseFilter> connectionLeaseFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConnectionLeaseFilter> registration = new FilterRegistrationBean<>(
+                new ConnectionLeaseFilter(meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 6);
+        return registration;
+    }
+}
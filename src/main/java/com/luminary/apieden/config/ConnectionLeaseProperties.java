@@ -0,0 +1,25 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "connection-lease")
+public class ConnectionLeaseProperties {
+    private boolean enabled = true;
+    /** Leases held at least this long are logged and counted in {@code jdbc.connection.long.holds}. */
+    private Duration longHoldThreshold = Duration.ofMillis(250);
+    /** Leases still open after this are reported once as possible leaks. */
+    private Duration leakThreshold = Duration.ofSeconds(30);
+    /**
+     * Tags leases with the application method that acquired them instead of {@code unknown}. Walks the stack on
+     * every acquisition, so it is meant to be switched on while tracking down a long hold or a leak.
+     */
+    private boolean captureSite = false;
+}
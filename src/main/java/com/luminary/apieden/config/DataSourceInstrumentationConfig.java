@@ -0,0 +1,51 @@
+package com.luminary.apieden.config;
+
+import com.luminary.apieden.job.ConnectionLeaseMonitor;
+import com.luminary.apieden.job.SlowQueryRecorder;
+import com.luminary.apieden.util.ConnectionLease;
+import com.luminary.apieden.util.LeaseTrackingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the pool once for both connection lease tracking and the slow-query recorder, so every JDBC call goes
+ * through a single proxy whatever combination of the two is enabled.
+ */
+@Configuration
+public class DataSourceInstrumentationConfig {
+    /** Static so wrapping the pool does not create the monitor or the recorder early; they are looked up on first use. */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(Environment environment,
+                                                                        ObjectProvider<ConnectionLeaseMonitor> monitor,
+                                                                        ObjectProvider<SlowQueryRecorder> slowQueries) {
+        boolean leases = environment.getProperty("connection-lease.enabled", Boolean.class, true);
+        boolean statements = environment.getProperty("slow-queries.enabled", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof LeaseTrackingDataSource
+                        || !(leases || statements)) {
+                    return bean;
+                }
+                return new LeaseTrackingDataSource(dataSource,
+                        leases ? new LeaseTrackingDataSource.LeaseListener() {
+                            @Override
+                            public ConnectionLease leased(long waitNanos) {
+                                return monitor.getObject().leased(waitNanos);
+                            }
+
+                            @Override
+                            public void released(ConnectionLease lease) {
+                                monitor.getObject().released(lease);
+                            }
+                        } : null,
+                        statements ? (sql, parameters, nanos) -> slowQueries.getObject().record(sql, parameters, nanos) : null);
+            }
+        };
+    }
+}
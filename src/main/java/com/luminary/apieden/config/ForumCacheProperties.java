@@ -0,0 +1,18 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "forum.cache")
+public class ForumCacheProperties {
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofSeconds(10);
+    private Duration failureBackoff = Duration.ofSeconds(5);
+}
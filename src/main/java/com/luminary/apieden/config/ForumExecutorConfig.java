@@ -0,0 +1,45 @@
+package com.luminary.apieden.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded pools for forum fan-out and hedging. With {@code spring.threads.virtual.enabled} their workers are
+ * virtual threads: the pool size and queue still bound how much work reaches the forum API and still reject
+ * excess work, but a worker blocked on I/O no longer holds an OS thread.
+ */
+@Configuration
+public class ForumExecutorConfig {
+    @Bean
+    public ThreadPoolTaskExecutor forumExecutor(ForumFanOutProperties properties, Environment environment) {
+        ThreadPoolTaskExecutor executor = executor("forum-", environment);
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor forumHedgeExecutor(ForumHedgeProperties properties, Environment environment) {
+        ThreadPoolTaskExecutor executor = executor("forum-hedge-", environment);
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        return executor;
+    }
+
+    private static ThreadPoolTaskExecutor executor(String threadNamePrefix, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setAllowCoreThreadTimeOut(true);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix + "vt-", 0).factory());
+        }
+        return executor;
+    }
+}
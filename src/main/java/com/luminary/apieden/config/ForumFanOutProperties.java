@@ -0,0 +1,20 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "forum.fan-out")
+public class ForumFanOutProperties {
+    private boolean enabled = false;
+    private Duration deadline = Duration.ofSeconds(3);
+    private int batchSize = 100;
+    private int poolSize = 16;
+    private int queueCapacity = 256;
+}
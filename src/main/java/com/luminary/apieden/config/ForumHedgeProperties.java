@@ -0,0 +1,24 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "forum.hedge")
+public class ForumHedgeProperties {
+    private boolean enabled = false;
+    private double percentile = 0.95;
+    private Duration minDelay = Duration.ofMillis(20);
+    private int minSamples = 50;
+    private int window = 1000;
+    /** Hedges allowed per primary call, e.g. 0.05 caps the extra load at 5%. */
+    private double budgetRatio = 0.05;
+    private double maxBurst = 10;
+    private int poolSize = 8;
+}
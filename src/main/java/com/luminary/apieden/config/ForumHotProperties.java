@@ -0,0 +1,16 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "forum.hot")
+public class ForumHotProperties {
+    private int size = 50;
+    private double commentWeight = 2.0;
+    private double gravity = 1.5;
+}
@@ -0,0 +1,23 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jfr")
+public class JfrProperties {
+    private Duration defaultDuration = Duration.ofSeconds(60);
+    /** Recordings stop on their own after this, whatever was requested. */
+    private Duration maxDuration = Duration.ofMinutes(10);
+    /** Older chunks are discarded once the recording is this large. */
+    private DataSize maxSize = DataSize.ofMegabytes(200);
+    /** JDK settings used when none is requested: {@code default} (~1% overhead) or {@code profile} (~2%). */
+    private String settings = "profile";
+}
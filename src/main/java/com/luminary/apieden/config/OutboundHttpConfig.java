@@ -0,0 +1,19 @@
+package com.luminary.apieden.config;
+
+import com.luminary.apieden.client.OutboundCallEventCapability;
+import com.luminary.apieden.client.OutboundPolicyCapability;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboundHttpConfig {
+    @Bean
+    public OutboundPolicyCapability outboundPolicyCapability(OutboundHttpProperties outboundHttpProperties) {
+        return new OutboundPolicyCapability(outboundHttpProperties);
+    }
+
+    @Bean
+    public OutboundCallEventCapability outboundCallEventCapability() {
+        return new OutboundCallEventCapability();
+    }
+}
@@ -0,0 +1,37 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbound")
+public class OutboundHttpProperties {
+    /**
+     * Per-method policy keyed by Feign client name, then by interface method name, e.g.
+     * {@code outbound.methods.forumApi.findById.read-timeout}.
+     */
+    private Map<String, Map<String, MethodPolicy>> methods = new HashMap<>();
+
+    public Optional<MethodPolicy> policy(String clientName, String methodName) {
+        return Optional.ofNullable(methods.get(clientName))
+                .map(clientMethods -> clientMethods.get(methodName));
+    }
+
+    @Getter
+    @Setter
+    public static class MethodPolicy {
+        private Duration connectTimeout;
+        private Duration readTimeout;
+        private int maxAttempts = 1;
+        private Duration backoff = Duration.ofMillis(100);
+    }
+}
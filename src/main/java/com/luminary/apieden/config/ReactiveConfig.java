@@ -0,0 +1,74 @@
+package com.luminary.apieden.config;
+
+import io.netty.channel.ChannelOption;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Non-blocking read stack served under {@code /reactive}: an R2DBC pool next to Hikari and a pooled
+ * WebClient for the forum API. Spring Boot's own R2DBC auto-configuration is excluded so none of this exists
+ * unless {@code reactive.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveConfig implements DisposableBean {
+    private ConnectionPool connectionPool;
+
+    /**
+     * The pool is deliberately not exposed as a {@code ConnectionFactory} bean: Spring Boot backs off the JDBC
+     * {@code DataSource} (and with it every JPA repository) as soon as one exists.
+     */
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ReactiveProperties properties) {
+        ReactiveProperties.R2dbc r2dbc = properties.getR2dbc();
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbc.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, r2dbc.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, r2dbc.getPassword())
+                .build();
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options);
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("reactive-reads")
+                .initialSize(r2dbc.getInitialSize())
+                .maxSize(r2dbc.getMaxSize())
+                .maxIdleTime(r2dbc.getMaxIdleTime())
+                .maxAcquireTime(r2dbc.getMaxAcquireTime())
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public WebClient forumWebClient(WebClient.Builder builder, ReactiveProperties properties,
+                                    @Value("${api.mongo}") String forumUrl) {
+        ReactiveProperties.Forum forum = properties.getForum();
+        HttpClient httpClient = HttpClient.create(ConnectionProvider.builder("forum-reactive")
+                        .maxConnections(forum.getMaxConnections())
+                        .pendingAcquireMaxCount(forum.getMaxConnections() * 4)
+                        .build())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) forum.getConnectTimeout().toMillis())
+                .responseTimeout(forum.getResponseTimeout())
+                .compress(true);
+        return builder.baseUrl(forumUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
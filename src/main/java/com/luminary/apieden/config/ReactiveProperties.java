@@ -0,0 +1,39 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reactive")
+public class ReactiveProperties {
+    private boolean enabled = false;
+    private R2dbc r2dbc = new R2dbc();
+    private Forum forum = new Forum();
+
+    @Getter
+    @Setter
+    public static class R2dbc {
+        /** e.g. {@code r2dbc:postgresql://host:5432/eden} */
+        private String url;
+        private String username;
+        private String password;
+        private int initialSize = 1;
+        private int maxSize = 4;
+        private Duration maxIdleTime = Duration.ofMinutes(10);
+        private Duration maxAcquireTime = Duration.ofSeconds(3);
+    }
+
+    @Getter
+    @Setter
+    public static class Forum {
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration responseTimeout = Duration.ofSeconds(3);
+        private int maxConnections = 50;
+    }
+}
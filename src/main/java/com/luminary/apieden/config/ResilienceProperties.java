@@ -0,0 +1,68 @@
+package com.luminary.apieden.config;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "resilience")
+public class ResilienceProperties {
+    private Downstream defaults = new Downstream();
+    private Map<String, Downstream> downstreams = new HashMap<>();
+
+    public Downstream forDownstream(String name) {
+        return downstreams.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Downstream {
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+        private float slowCallRateThreshold = 80;
+        private Duration waitInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+        private int maxConcurrentCalls = 10;
+        private Duration maxWait = Duration.ZERO;
+
+        public CircuitBreakerConfig toCircuitBreakerConfig() {
+            return CircuitBreakerConfig.custom()
+                    .failureRateThreshold(failureRateThreshold)
+                    .slidingWindowSize(slidingWindowSize)
+                    .minimumNumberOfCalls(minimumNumberOfCalls)
+                    .slowCallDurationThreshold(slowCallDuration)
+                    .slowCallRateThreshold(slowCallRateThreshold)
+                    .waitDurationInOpenState(waitInOpenState)
+                    .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                    .automaticTransitionFromOpenToHalfOpenEnabled(false)
+                    .ignoreException(Downstream::isClientError)
+                    .build();
+        }
+
+        public BulkheadConfig toBulkheadConfig() {
+            return BulkheadConfig.custom()
+                    .maxConcurrentCalls(maxConcurrentCalls)
+                    .maxWaitDuration(maxWait)
+                    .build();
+        }
+
+        /** 4xx answers are the caller's fault and say nothing about the downstream's health. */
+        private static boolean isClientError(Throwable throwable) {
+            return throwable instanceof FeignException.FeignClientException
+                    || throwable instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.luminary.apieden.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of every {@code @Service} bean as {@code service.invocations}, tagged with class,
+ * method and exception. Methods returning a {@link Publisher} are skipped: the call only assembles the
+ * pipeline, the work happens on subscription. Calls between methods of the same service are not proxied and
+ * only count as part of the outer call.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        if (Publisher.class.isAssignableFrom(signature.getReturnType())) {
+            return joinPoint.proceed();
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            sample.stop(Timer.builder("service.invocations")
+                    .description("Time spent in @Service methods")
+                    .tag("class", signature.getDeclaringType().getSimpleName())
+                    .tag("method", signature.getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "slow-queries")
+public class SlowQueryProperties {
+    private boolean enabled = true;
+    /** Executions at least this long are logged and may have their plan captured. */
+    private Duration threshold = Duration.ofMillis(100);
+    /** Runs {@code EXPLAIN} with the slow execution's parameters, on a background thread and an unpooled connection. */
+    private boolean explain = true;
+    /** Minimum time between two plan captures of the same fingerprint. */
+    private Duration explainInterval = Duration.ofMinutes(10);
+    /** Distinct fingerprints tracked; any further one is aggregated under {@code other}. */
+    private int maxFingerprints = 1000;
+}
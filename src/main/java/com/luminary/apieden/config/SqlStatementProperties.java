@@ -0,0 +1,18 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sql-statements")
+public class SqlStatementProperties {
+    private boolean enabled = true;
+    /** Adds {@code X-Sql-Statements} to every response. Buffers the body, meant for dev only. */
+    private boolean exposeHeader = false;
+    /** Executions of the same statement shape in one request from which it is logged as a possible N+1. */
+    private int repeatThreshold = 5;
+}
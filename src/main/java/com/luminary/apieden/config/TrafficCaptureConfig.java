@@ -0,0 +1,24 @@
+package com.luminary.apieden.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.apieden.filter.TrafficCaptureFilter;
+import com.luminary.apieden.job.TrafficCaptureWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "traffic-capture", name = "enabled", havingValue = "true")
+public class TrafficCaptureConfig {
+    @Bean
+    public FilterRegistrationBean<TrafficCaptureFilter> trafficCaptureFilter(TrafficCaptureProperties properties,
+                                                                            TrafficCaptureWriter writer,
+                                                                            ObjectMapper objectMapper) {
+        FilterRegistrationBean<TrafficCaptureFilter> registration = new FilterRegistrationBean<>(
+                new TrafficCaptureFilter(properties, writer, objectMapper));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 20);
+        return registration;
+    }
+}
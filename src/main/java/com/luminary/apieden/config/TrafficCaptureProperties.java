@@ -0,0 +1,36 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "traffic-capture")
+public class TrafficCaptureProperties {
+    private boolean enabled = false;
+    private Path directory = Path.of("captures");
+    /** Size from which the current file is closed and a new one started. */
+    private DataSize maxFileSize = DataSize.ofMegabytes(64);
+    /** Rolled files kept in {@code directory}; the oldest are deleted. */
+    private int maxFiles = 10;
+    /** Traces waiting to be written; when full new traces are dropped, never the request. */
+    private int queueCapacity = 10_000;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    /** Lower case; dropped from the trace. */
+    private Set<String> redactedHeaders = Set.of("authorization", "proxy-authorization", "cookie", "x-api-key");
+    /** Keeps JSON bodies in the trace so they can be replayed. Otherwise only their length and digest. */
+    private boolean captureBodies = false;
+    /** Bytes of the body cached for the digest and the captured body. */
+    private DataSize maxBodySize = DataSize.ofKilobytes(64);
+    /** JSON fields whose value is replaced by {@code ***} in captured bodies, at any depth. */
+    private Set<String> redactedFields = Set.of("password", "cpf", "cardNumber", "cvv", "cvc");
+}
@@ -0,0 +1,20 @@
+package com.luminary.apieden.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "virtual-threads.pinning")
+public class VirtualThreadProperties {
+    private boolean monitor = true;
+    /** Pins shorter than this are not reported. */
+    private Duration threshold = Duration.ofMillis(20);
+    /** Distinct pinned stacks logged in full; later occurrences only count in the metric. */
+    private int maxLoggedStacks = 50;
+}
@@ -0,0 +1,64 @@
+package com.luminary.apieden.controller;
+
+import com.luminary.apieden.controller.contract.AdminJfrContract;
+import com.luminary.apieden.model.response.JfrRecordingResponse;
+import com.luminary.apieden.service.JfrRecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequestMapping("/admin/jfr")
+@RequiredArgsConstructor
+public class AdminJfrController implements AdminJfrContract {
+    private final JfrRecordingService jfrRecordingService;
+
+    @GetMapping
+    public ResponseEntity<JfrRecordingResponse> status() {
+        return ResponseEntity.status(HttpStatus.OK).body(jfrRecordingService.status());
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<JfrRecordingResponse> start(@RequestParam(required = false) Duration duration,
+                                                      @RequestParam(required = false) String settings) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(jfrRecordingService.start(duration, settings));
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<JfrRecordingResponse> stop() {
+        return ResponseEntity.status(HttpStatus.OK).body(jfrRecordingService.stop());
+    }
+
+    @GetMapping("/dump")
+    public ResponseEntity<Resource> dump() throws IOException {
+        Path file = jfrRecordingService.dump();
+        String name = "apieden-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr";
+        long size = Files.size(file);
+        // Streamed on the request thread; the temporary file goes away once it has been sent
+        InputStream content = Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(name).build().toString())
+                .body(new InputStreamResource(content));
+    }
+}
@@ -0,0 +1,36 @@
+package com.luminary.apieden.controller;
+
+import com.luminary.apieden.controller.contract.AdminSlowQueryContract;
+import com.luminary.apieden.model.response.SlowQueryResponse;
+import com.luminary.apieden.job.SlowQueryRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnProperty(prefix = "slow-queries", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequestMapping("/admin/slow-queries")
+@RequiredArgsConstructor
+public class AdminSlowQueryController implements AdminSlowQueryContract {
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    @GetMapping
+    public ResponseEntity<List<SlowQueryResponse>> top(@RequestParam(defaultValue = "20") int limit,
+                                                       @RequestParam(defaultValue = "total") String orderBy) {
+        return ResponseEntity.status(HttpStatus.OK).body(slowQueryRecorder.top(limit, orderBy));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        slowQueryRecorder.reset();
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
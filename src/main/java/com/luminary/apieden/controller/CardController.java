@@ -15,9 +15,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/card")
@@ -30,6 +32,11 @@ public class CardController implements CardContract {
         return ResponseEntity.status(HttpStatus.OK).body(cardService.findByUserId(id));
     }
 
+    @GetMapping("/wallets")
+    public ResponseEntity<Map<Long, List<CardResponse>>> findByUserIds(@RequestParam List<Long> userIds) {
+        return ResponseEntity.status(HttpStatus.OK).body(cardService.findByUserIds(userIds));
+    }
+
     @PostMapping("/")
     public ResponseEntity<Card> register(@RequestBody @Valid CardRequest cardRequest) {
         return ResponseEntity.status(HttpStatus.CREATED).body(cardService.registerCard(cardRequest));
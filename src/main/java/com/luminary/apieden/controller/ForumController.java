@@ -2,8 +2,10 @@ package com.luminary.apieden.controller;
 
 import com.luminary.apieden.controller.contract.ForumContract;
 import com.luminary.apieden.model.response.FindForumResponse;
+import com.luminary.apieden.service.ForumHotPostsService;
 import com.luminary.apieden.service.ForumService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,9 +19,26 @@ import java.util.List;
 @RequestMapping("/forum")
 @RequiredArgsConstructor
 public class ForumController implements ForumContract {
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final ForumService forumService;
+    private final ForumHotPostsService forumHotPostsService;
+
+    @GetMapping("/hot")
+    public ResponseEntity<List<FindForumResponse>> findHot(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(forumHotPostsService.getHotPosts(limit));
+    }
+
     @GetMapping
-    public ResponseEntity<List<FindForumResponse>> findAll(@RequestParam(required = false) String id) {
+    public ResponseEntity<List<FindForumResponse>> findAll(@RequestParam(required = false) String id,
+                                                           @RequestParam(required = false) Integer page,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        if (id == null && page != null) {
+            Page<FindForumResponse> forumPage = forumService.findPage(page, size);
+            return ResponseEntity.status(HttpStatus.OK)
+                    .header(TOTAL_COUNT_HEADER, String.valueOf(forumPage.getTotalElements()))
+                    .body(forumPage.getContent());
+        }
         return ResponseEntity.status(HttpStatus.OK).body(forumService.find(id));
     }
 }
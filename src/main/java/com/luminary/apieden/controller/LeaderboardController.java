@@ -0,0 +1,32 @@
+package com.luminary.apieden.controller;
+
+import com.luminary.apieden.controller.contract.LeaderboardContract;
+import com.luminary.apieden.model.response.LeaderboardEntryResponse;
+import com.luminary.apieden.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController implements LeaderboardContract {
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping
+    public ResponseEntity<List<LeaderboardEntryResponse>> top(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(leaderboardService.top(limit));
+    }
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<LeaderboardEntryResponse> rankOf(@PathVariable String userId) {
+        return ResponseEntity.status(HttpStatus.OK).body(leaderboardService.rankOf(userId));
+    }
+}
@@ -0,0 +1,44 @@
+package com.luminary.apieden.controller;
+
+import com.luminary.apieden.controller.contract.ReactiveForumContract;
+import com.luminary.apieden.model.response.FindForumResponse;
+import com.luminary.apieden.service.ReactiveForumService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/reactive/forum")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveForumController implements ReactiveForumContract {
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private final ReactiveForumService reactiveForumService;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<FindForumResponse>>> findAll(@RequestParam(required = false) String id,
+                                                                 @RequestParam(required = false) Integer page,
+                                                                 @RequestParam(defaultValue = "20") int size) {
+        if (id != null) {
+            return reactiveForumService.findThread(id)
+                    .map(thread -> ResponseEntity.status(HttpStatus.OK).body(List.of(thread)));
+        }
+        if (page != null) {
+            return reactiveForumService.findPage(page, size)
+                    .map(forumPage -> ResponseEntity.status(HttpStatus.OK)
+                            .header(TOTAL_COUNT_HEADER, String.valueOf(forumPage.getTotalElements()))
+                            .body(forumPage.getContent()));
+        }
+        return reactiveForumService.findAll()
+                .map(forum -> ResponseEntity.status(HttpStatus.OK).body(forum));
+    }
+}
@@ -0,0 +1,49 @@
+package com.luminary.apieden.controller;
+
+import com.luminary.apieden.controller.contract.ReactiveProductContract;
+import com.luminary.apieden.model.response.ProductSummaryResponse;
+import com.luminary.apieden.service.ReactiveProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/reactive/product")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveProductController implements ReactiveProductContract {
+    private final ReactiveProductService reactiveProductService;
+
+    @GetMapping("/getPremiumProducts")
+    public Flux<ProductSummaryResponse> getPremiumProducts(@RequestHeader String userId) {
+        return reactiveProductService.getPremiumProducts(userId);
+    }
+
+    @GetMapping("/getProducts")
+    public Flux<ProductSummaryResponse> getProducts(@RequestHeader String userId) {
+        return reactiveProductService.getNotPremiumProducts(userId);
+    }
+
+    @GetMapping("/getByUserId/{userId}")
+    public Flux<ProductSummaryResponse> getProductByUserId(@PathVariable String userId) {
+        return reactiveProductService.findProductByUserId(userId);
+    }
+
+    @GetMapping("/getByTitle")
+    public Flux<ProductSummaryResponse> getProductByTitleLike(@RequestHeader String userId,
+                                                              @RequestParam("title") String title) {
+        return reactiveProductService.findProductByTitleLike(userId, title);
+    }
+
+    @GetMapping("/getByProductId/{productId}")
+    public Mono<ProductSummaryResponse> getByProductId(@PathVariable String productId) {
+        return reactiveProductService.findProductById(productId);
+    }
+}
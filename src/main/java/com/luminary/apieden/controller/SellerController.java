@@ -0,0 +1,31 @@
+package com.luminary.apieden.controller;
+
+import com.luminary.apieden.controller.contract.SellerContract;
+import com.luminary.apieden.model.response.SellerStatsResponse;
+import com.luminary.apieden.service.SellerStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/seller")
+@RequiredArgsConstructor
+public class SellerController implements SellerContract {
+    private final SellerStatsService sellerStatsService;
+
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<SellerStatsResponse> getStats(
+            @PathVariable String id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.status(HttpStatus.OK).body(sellerStatsService.getStats(id, from, to));
+    }
+}
@@ -0,0 +1,62 @@
+package com.luminary.apieden.controller.contract;
+
+import com.luminary.apieden.model.response.ErrorResponse;
+import com.luminary.apieden.model.response.JfrRecordingResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@Tag(name = "Admin JFR Controller", description = "Admin only endpoints to record a JDK Flight Recording on demand")
+public interface AdminJfrContract {
+    @Operation(summary = "Recording state", description = "State, settings, start time, duration and size of the last recording")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "State returned successfully",
+                    content = @Content(schema = @Schema(implementation = JfrRecordingResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "No recording was started",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<JfrRecordingResponse> status();
+
+    @Operation(summary = "Start a recording", description = "Starts a JFR recording, bounded by 'jfr.max-duration' and 'jfr.max-size'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Recording started",
+                    content = @Content(schema = @Schema(implementation = JfrRecordingResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "409", description = "A recording is already running",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @Parameter(name = "duration", description = "How long to record, defaults to 'jfr.default-duration'", example = "PT2M")
+    @Parameter(name = "settings", description = "JDK settings, 'default' or 'profile'", example = "profile")
+    public ResponseEntity<JfrRecordingResponse> start(Duration duration, String settings);
+
+    @Operation(summary = "Stop the recording", description = "Stops the running recording, which stays available for dumping")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording stopped",
+                    content = @Content(schema = @Schema(implementation = JfrRecordingResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "No recording was started",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<JfrRecordingResponse> stop();
+
+    @Operation(summary = "Dump the recording", description = "Downloads what was recorded so far as a .jfr file, for JDK Mission Control or 'jfr print'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording file"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "No recording was started",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<Resource> dump() throws IOException;
+}
@@ -0,0 +1,37 @@
+package com.luminary.apieden.controller.contract;
+
+import com.luminary.apieden.model.response.ErrorResponse;
+import com.luminary.apieden.model.response.SlowQueryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Tag(name = "Admin Slow Query Controller", description = "Admin only endpoints to find the statements that dominate database time")
+public interface AdminSlowQueryContract {
+    @Operation(summary = "Top SQL fingerprints", description = "Fingerprints ordered by total time, p99, mean, max or count, with the captured plan of their slow executions")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fingerprints returned successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SlowQueryResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Bad Request",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @Parameter(name = "limit", description = "How many fingerprints to return, 1 to 1000", example = "20")
+    @Parameter(name = "orderBy", description = "total, p99, mean, max or count", example = "total")
+    public ResponseEntity<List<SlowQueryResponse>> top(int limit, String orderBy);
+
+    @Operation(summary = "Reset statistics", description = "Forgets every fingerprint, e.g. before measuring a deploy")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Statistics reset"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    public ResponseEntity<Void> reset();
+}
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Card Controller", description = "Endpoints to interact with the Card entity")
 public interface CardContract {
@@ -23,6 +24,17 @@ public interface CardContract {
     })
     public ResponseEntity<List<CardResponse>> findByUserId(String id);
 
+    @Operation(summary = "Find the wallets of several users",
+            description = "Find the masked cards of up to 50 users at once, keyed by user id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request completed successfully"),
+            @ApiResponse(responseCode = "400", description = "No user id or too many user ids",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content)
+    })
+    public ResponseEntity<Map<Long, List<CardResponse>>> findByUserIds(List<Long> userIds);
+
     @Operation(summary = "Register a card to a user", description = "Register an card to an user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Request completed successfully",
@@ -12,11 +12,21 @@ import java.util.List;
 
 @Tag(name = "Forum Controller", description = "Endpoints to interact with Forum Entity")
 public interface ForumContract {
+    @Operation(summary = "Hot posts", description = "Forum posts ranked by engagers and comments with time decay, refreshed periodically")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hot posts returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    @Parameter(name = "limit", description = "How many posts to return", example = "20")
+    public ResponseEntity<List<FindForumResponse>> findHot(int limit);
+
     @Operation(summary = "Find forum", description = "Finds forum items and implements its respective users")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "All forums items returned successfully"),
             @ApiResponse(responseCode = "500", description = "Internal Server Error")
     })
     @Parameter(name = "id", description = "Id of the user")
-    public ResponseEntity<List<FindForumResponse>> findAll(String id);
+    @Parameter(name = "page", description = "Page of the forum, starting at 0. When passed, the total of posts is returned in the 'X-Total-Count' header", example = "0")
+    @Parameter(name = "size", description = "Posts per page, up to 100", example = "20")
+    public ResponseEntity<List<FindForumResponse>> findAll(String id, Integer page, int size);
 }
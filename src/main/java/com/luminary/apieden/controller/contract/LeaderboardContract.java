@@ -0,0 +1,36 @@
+package com.luminary.apieden.controller.contract;
+
+import com.luminary.apieden.model.response.ErrorResponse;
+import com.luminary.apieden.model.response.LeaderboardEntryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Tag(name = "Leaderboard Controller", description = "Endpoints to read the best rated sellers")
+public interface LeaderboardContract {
+    @Operation(summary = "Best sellers", description = "Sellers ordered by rating and rating count")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Leaderboard returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @Parameter(name = "limit", description = "How many sellers to return, up to 100", example = "10")
+    public ResponseEntity<List<LeaderboardEntryResponse>> top(int limit);
+
+    @Operation(summary = "Seller rank", description = "Position of a seller in the leaderboard")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rank returned successfully",
+                    content = @Content(schema = @Schema(implementation = LeaderboardEntryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Seller was never rated",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @Parameter(name = "userId", description = "The id of the seller")
+    public ResponseEntity<LeaderboardEntryResponse> rankOf(String userId);
+}
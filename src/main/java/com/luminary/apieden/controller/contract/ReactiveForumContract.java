@@ -0,0 +1,25 @@
+package com.luminary.apieden.controller.contract;
+
+import com.luminary.apieden.model.response.FindForumResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Tag(name = "Reactive Forum Controller", description = "Non-blocking reads of the forum")
+public interface ReactiveForumContract {
+    @Operation(summary = "Find forum", description = "Same contract as GET /forum, served without blocking a thread per request")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "All forums items returned successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    @Parameter(name = "id", description = "Id of the user")
+    @Parameter(name = "page", description = "Page of the forum, starting at 0. When passed, the total of posts is returned in the 'X-Total-Count' header", example = "0")
+    @Parameter(name = "size", description = "Posts per page, up to 100", example = "20")
+    public Mono<ResponseEntity<List<FindForumResponse>>> findAll(String id, Integer page, int size);
+}
@@ -0,0 +1,43 @@
+package com.luminary.apieden.controller.contract;
+
+import com.luminary.apieden.model.response.ProductSummaryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Reactive Product Controller", description = "Non-blocking reads of products, served from R2DBC")
+public interface ReactiveProductContract {
+    @Operation(summary = "Premium products", description = "Available premium products of other users")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request completed successfully")
+    })
+    public Flux<ProductSummaryResponse> getPremiumProducts(String userId);
+
+    @Operation(summary = "Products", description = "Available non-premium products of other users")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request completed successfully")
+    })
+    public Flux<ProductSummaryResponse> getProducts(String userId);
+
+    @Operation(summary = "Products of a user", description = "All products registered by the user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request completed successfully")
+    })
+    public Flux<ProductSummaryResponse> getProductByUserId(String userId);
+
+    @Operation(summary = "Products by title", description = "Available products of other users whose title matches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request completed successfully")
+    })
+    public Flux<ProductSummaryResponse> getProductByTitleLike(String userId, String title);
+
+    @Operation(summary = "Product by id", description = "A product with its seller")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request completed successfully"),
+            @ApiResponse(responseCode = "400", description = "Product not found")
+    })
+    public Mono<ProductSummaryResponse> getByProductId(String productId);
+}
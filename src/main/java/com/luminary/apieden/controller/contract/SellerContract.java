@@ -0,0 +1,31 @@
+package com.luminary.apieden.controller.contract;
+
+import com.luminary.apieden.model.response.ErrorResponse;
+import com.luminary.apieden.model.response.SellerStatsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+
+@Tag(name = "Seller Controller", description = "Endpoints to read seller sales aggregates")
+public interface SellerContract {
+    @Operation(summary = "Seller stats", description = "Units, gross revenue and distinct buyers of a seller, per day and in total")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stats returned successfully",
+                    content = @Content(schema = @Schema(implementation = SellerStatsResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @Parameter(name = "id", description = "The id of the seller")
+    @Parameter(name = "from", description = "First day of the period, defaults to 29 days before 'to'", example = "2024-07-01")
+    @Parameter(name = "to", description = "Last day of the period, defaults to today", example = "2024-07-31")
+    public ResponseEntity<SellerStatsResponse> getStats(String id, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,122 @@
+package com.luminary.apieden.filter;
+
+import com.luminary.apieden.util.AdaptiveLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits at most {@link AdaptiveLimiter#getLimit()} requests at a time per route class (reads: GET, HEAD,
+ * OPTIONS; writes: everything else) and rejects the rest straight away with 503 and {@code Retry-After},
+ * before authentication touches the database. 5xx answers count as drops. Actuator endpoints are not limited.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final AdaptiveLimiter readLimiter;
+    private final AdaptiveLimiter writeLimiter;
+    private final String retryAfterSeconds;
+    private final Counter readRejections;
+    private final Counter writeRejections;
+
+    public ConcurrencyLimitFilter(AdaptiveLimiter readLimiter, AdaptiveLimiter writeLimiter, Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.readRejections = meterRegistry.counter("http.server.concurrency.rejected", "route", "read");
+        this.writeRejections = meterRegistry.counter("http.server.concurrency.rejected", "route", "write");
+        meterRegistry.gauge("http.server.concurrency.limit", Tags.of("route", "read"),
+                readLimiter, AdaptiveLimiter::getLimit);
+        meterRegistry.gauge("http.server.concurrency.limit", Tags.of("route", "write"),
+                writeLimiter, AdaptiveLimiter::getLimit);
+        meterRegistry.gauge("http.server.concurrency.in-flight", Tags.of("route", "read"),
+                readLimiter, AdaptiveLimiter::getInFlight);
+        meterRegistry.gauge("http.server.concurrency.in-flight", Tags.of("route", "write"),
+                writeLimiter, AdaptiveLimiter::getInFlight);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean read = READ_METHODS.contains(request.getMethod());
+        AdaptiveLimiter limiter = read ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            (read ? readRejections : writeRejections).increment();
+            response.setContentType("application/json");
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.getWriter().write("{\"error\": \"Servidor sobrecarregado, tente novamente em instantes\"}");
+            return;
+        }
+        Permit permit = new Permit(limiter, response);
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException exception) {
+            permit.release(true);
+            throw exception;
+        }
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(permit);
+        } else {
+            permit.release(false);
+        }
+    }
+
+    private static class Permit implements AsyncListener {
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final AdaptiveLimiter limiter;
+        private final HttpServletResponse response;
+
+        Permit(AdaptiveLimiter limiter, HttpServletResponse response) {
+            this.limiter = limiter;
+            this.response = response;
+        }
+
+        void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start, failed || response.getStatus() >= 500);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.luminary.apieden.filter;
+
+import com.luminary.apieden.util.ConnectionLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums the connection time of each request, authentication included, into {@code http.server.connection.held}
+ * and {@code http.server.connection.active}. Requests that never borrowed a connection are not recorded.
+ */
+public class ConnectionLeaseFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionLeaseFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/actuator") || path.startsWith("/reactive");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ConnectionLease.Scope scope = ConnectionLease.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            if (scope.getLeases() > 0) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+                timer("http.server.connection.held", "Connection time held per request", request, uri)
+                        .record(scope.getHeldNanos(), TimeUnit.NANOSECONDS);
+                timer("http.server.connection.active", "Connection time spent executing statements per request", request, uri)
+                        .record(scope.getActiveNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Timer timer(String name, String description, HttpServletRequest request, String uri) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.luminary.apieden.filter;
+
+import com.luminary.apieden.config.SqlStatementProperties;
+import com.luminary.apieden.util.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the Hibernate statements each request issues, authentication included, into
+ * {@code http.server.sql.statements} and logs statement shapes repeated {@code repeatThreshold} times or more.
+ * Actuator and the reactive routes (R2DBC, async dispatch) are left out.
+ */
+@Slf4j
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Sql-Statements";
+
+    private final SqlStatementProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementCountFilter(SqlStatementProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/actuator") || path.startsWith("/reactive");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = properties.isExposeHeader() ? new ContentCachingResponseWrapper(response) : null;
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            scope.close();
+            report(request, scope);
+            if (buffered != null) {
+                buffered.setHeader(HEADER, String.valueOf(scope.getTotal()));
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("SQL statements issued per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getTotal());
+        Map<String, Integer> repeated = scope.repeated(properties.getRepeatThreshold());
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("http.server.sql.repeated", "method", request.getMethod(), "uri", uri).increment();
+            repeated.forEach((shape, times) -> log.warn("[SQL] Possible N+1 on {} {}: {} statements, {}x {}",
+                    request.getMethod(), uri, scope.getTotal(), times, shape));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.luminary.apieden.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.luminary.apieden.config.TrafficCaptureProperties;
+import com.luminary.apieden.job.TrafficCaptureWriter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records a sanitized trace of every request (route, query, headers minus credentials, body digest, status and
+ * duration) for {@code TrafficCaptureWriter}. The body is only cached as the application reads it, up to
+ * {@code max-body-size}; nothing is written on the request thread.
+ */
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+    private static final String REDACTED = "***";
+
+    private final TrafficCaptureProperties properties;
+    private final TrafficCaptureWriter writer;
+    private final ObjectMapper objectMapper;
+
+    public TrafficCaptureFilter(TrafficCaptureProperties properties, TrafficCaptureWriter writer, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length()).startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long startedAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        ContentCachingRequestWrapper cached = new ContentCachingRequestWrapper(request, (int) properties.getMaxBodySize().toBytes());
+        try {
+            filterChain.doFilter(cached, response);
+        } finally {
+            if (cached.isAsyncStarted()) {
+                cached.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        capture(cached, response, startedAt, start);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                capture(cached, response, startedAt, start);
+            }
+        }
+    }
+
+    private void capture(ContentCachingRequestWrapper request, HttpServletResponse response, long startedAt, long start) {
+        long durationMicros = (System.nanoTime() - start) / 1_000;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        byte[] body = request.getContentAsByteArray();
+        writer.offer(new TrafficCaptureWriter.Trace(
+                startedAt,
+                request.getMethod(),
+                pattern != null ? pattern.toString() : null,
+                request.getRequestURI(),
+                request.getQueryString(),
+                headers(request),
+                Math.max(request.getContentLengthLong(), body.length),
+                body.length > 0 ? sha256(body) : null,
+                properties.isCaptureBodies() ? redactedBody(request, body) : null,
+                response.getStatus(),
+                durationMicros));
+    }
+
+    private Map<String, String> headers(HttpServletRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        request.getHeaderNames().asIterator().forEachRemaining(name -> {
+            if (!properties.getRedactedHeaders().contains(name.toLowerCase())) {
+                headers.put(name, request.getHeader(name));
+            }
+        });
+        return headers;
+    }
+
+    private String redactedBody(HttpServletRequest request, byte[] body) {
+        if (body.length == 0 || body.length < request.getContentLengthLong() || request.getContentType() == null
+                || !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()))) {
+            return null;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+            redact(json);
+            return objectMapper.writeValueAsString(json);
+        } catch (JsonProcessingException invalid) {
+            return null;
+        }
+    }
+
+    private void redact(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            object.fieldNames().forEachRemaining(field -> {
+                if (properties.getRedactedFields().contains(field)) {
+                    object.put(field, REDACTED);
+                }
+            });
+        }
+        node.forEach(this::redact);
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException unavailable) {
+            throw new IllegalStateException(unavailable);
+        }
+    }
+}
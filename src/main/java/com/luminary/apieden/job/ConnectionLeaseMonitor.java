@@ -0,0 +1,95 @@
+package com.luminary.apieden.job;
+
+import com.luminary.apieden.config.DataSourceInstrumentationConfig;
+import com.luminary.apieden.config.ConnectionLeaseProperties;
+import com.luminary.apieden.util.ConnectionLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records, per acquiring code site, how long connections are held ({@code jdbc.connection.held}) and how much of
+ * that is spent executing statements ({@code jdbc.connection.active}). Holds above {@code long-hold-threshold}
+ * are logged; leases open longer than {@code leak-threshold} are reported once as possible leaks.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "connection-lease", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionLeaseMonitor {
+    private static final String APPLICATION_PACKAGE = "com.luminary.apieden.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final ConnectionLeaseProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Set<ConnectionLease> open = ConcurrentHashMap.newKeySet();
+
+    public ConnectionLeaseMonitor(ConnectionLeaseProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeCollectionSize("jdbc.connection.leased", List.of(), open);
+    }
+
+    public ConnectionLease leased(long waitNanos) {
+        ConnectionLease lease = new ConnectionLease(properties.isCaptureSite() ? site() : "unknown", waitNanos);
+        open.add(lease);
+        return lease;
+    }
+
+    public void released(ConnectionLease lease) {
+        long held = lease.release();
+        if (held < 0) {
+            return;
+        }
+        open.remove(lease);
+        timer("jdbc.connection.held", "Time a connection was checked out of the pool", lease).record(held, TimeUnit.NANOSECONDS);
+        timer("jdbc.connection.active", "Time a checked out connection spent executing statements", lease)
+                .record(lease.getActiveNanos(), TimeUnit.NANOSECONDS);
+        if (held >= properties.getLongHoldThreshold().toNanos()) {
+            meterRegistry.counter("jdbc.connection.long.holds", "site", lease.getSite()).increment();
+            log.warn("[DB] Connection held {} ms by {} ({} ms executing, {} ms waiting for the pool)",
+                    TimeUnit.NANOSECONDS.toMillis(held), lease.getSite(),
+                    TimeUnit.NANOSECONDS.toMillis(lease.getActiveNanos()), TimeUnit.NANOSECONDS.toMillis(lease.getWaitNanos()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${connection-lease.leak-check-interval:PT10S}")
+    public void reportLeaks() {
+        long threshold = properties.getLeakThreshold().toNanos();
+        for (ConnectionLease lease : open) {
+            if (lease.age() >= threshold && lease.reportAsLeak()) {
+                meterRegistry.counter("jdbc.connection.leaks", "site", lease.getSite()).increment();
+                log.error("[DB] Possible connection leak: held for {} ms by {} on thread {}",
+                        TimeUnit.NANOSECONDS.toMillis(lease.age()), lease.getSite(), lease.getThread());
+            }
+        }
+    }
+
+    private Timer timer(String name, String description, ConnectionLease lease) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("site", lease.getSite())
+                .register(meterRegistry);
+    }
+
+    /** Innermost application method on the stack, skipping this monitor, the data source wrapper and proxies. */
+    private static String site() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().contains("$$")
+                        && !frame.getClassName().startsWith(APPLICATION_PACKAGE + "util.")
+                        && !frame.getClassName().startsWith(DataSourceInstrumentationConfig.class.getName())
+                        && !frame.getClassName().equals(ConnectionLeaseMonitor.class.getName()))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "#" + frame.getMethodName())
+                .orElse("other"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.luminary.apieden.job;
+
+import com.luminary.apieden.service.SellerStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "seller-stats.backfill-on-startup", havingValue = "true")
+public class SellerStatsBackfillJob implements ApplicationRunner {
+    private final SellerStatsService sellerStatsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        sellerStatsService.backfill();
+    }
+}
@@ -0,0 +1,262 @@
+package com.luminary.apieden.job;
+
+import com.luminary.apieden.config.SlowQueryProperties;
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.response.SlowQueryResponse;
+import com.luminary.apieden.util.LatencyHistogram;
+import com.luminary.apieden.util.SqlStatementCounter;
+import com.luminary.apieden.util.StatementParameters;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates every statement execution by fingerprint (its shape, as in {@link SqlStatementCounter}): count, total
+ * time, max and a {@link LatencyHistogram} for percentiles, all updated without locks. Executions above
+ * {@code slow-queries.threshold} are logged, and at most once per {@code explain-interval} per fingerprint their
+ * plan is captured by running {@code EXPLAIN} (never {@code ANALYZE}) with the same parameters on a background
+ * thread, over a short-lived read-only connection of its own: slow queries are exactly when the small pool is
+ * busy, so a capture must never wait for, or take, a pooled connection. The origin of a fingerprint is the repository method and caller that first executed it. A plain
+ * component rather than a {@code @Service}, so {@code ServiceMetricsAspect} does not time every statement.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "slow-queries", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryRecorder {
+    static final String OTHER = "other";
+    private static final String APPLICATION_PACKAGE = "com.luminary.apieden.";
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 10;
+    private static final Set<String> EXPLAINABLE = Set.of("select", "with", "insert", "update", "delete");
+    private static final Map<String, Comparator<SlowQueryResponse>> ORDERS = Map.of(
+            "total", Comparator.comparingDouble(SlowQueryResponse::getTotalMillis),
+            "p99", Comparator.comparingDouble(SlowQueryResponse::getP99Millis),
+            "mean", Comparator.comparingDouble(SlowQueryResponse::getMeanMillis),
+            "max", Comparator.comparingDouble(SlowQueryResponse::getMaxMillis),
+            "count", Comparator.comparingLong(SlowQueryResponse::getCount));
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final SlowQueryProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final Map<String, QueryStats> queries = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(16), Thread.ofPlatform().name("slow-query-explain").daemon().factory(),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public SlowQueryRecorder(SlowQueryProperties properties, DataSourceProperties dataSourceProperties) {
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    public void record(String sql, StatementParameters parameters, long nanos) {
+        String fingerprint = fingerprint(sql);
+        QueryStats query = queries.get(fingerprint);
+        if (query == null) {
+            query = queries.size() < properties.getMaxFingerprints()
+                    ? queries.computeIfAbsent(fingerprint, key -> new QueryStats(key, origin()))
+                    : queries.computeIfAbsent(OTHER, key -> new QueryStats(key, null));
+        }
+        query.record(nanos);
+        if (nanos < properties.getThreshold().toNanos()) {
+            return;
+        }
+        query.slow.increment();
+        log.warn("[SQL] Slow query, {} ms in {}: {}", TimeUnit.NANOSECONDS.toMillis(nanos), query.origin, query.fingerprint);
+        if (properties.isExplain() && parameters != null && !OTHER.equals(query.fingerprint) && explainable(sql)
+                && parameters.isReplayable() && query.claimExplain(properties.getExplainInterval().toNanos())) {
+            QueryStats explained = query;
+            StatementParameters values = parameters.copy();
+            explainer.execute(() -> explain(explained, sql, values, nanos));
+        }
+    }
+
+    public List<SlowQueryResponse> top(int limit, String orderBy) {
+        Comparator<SlowQueryResponse> order = ORDERS.get(orderBy);
+        if (order == null) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'orderBy' precisa ser total, p99, mean, max ou count");
+        }
+        if (limit < 1 || limit > 1000) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'limit' precisa estar entre 1 e 1000");
+        }
+        long totalNanos = queries.values().stream().mapToLong(query -> query.totalNanos.sum()).sum();
+        return queries.values().stream()
+                .map(query -> query.toResponse(totalNanos))
+                .filter(query -> query.getCount() > 0)
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        queries.clear();
+    }
+
+    @PreDestroy
+    public void close() {
+        explainer.shutdownNow();
+    }
+
+    private String fingerprint(String sql) {
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlStatementCounter.shape(sql);
+            // Statements with inlined literals would grow the cache without bound, so stop caching past a size
+            if (fingerprints.size() < properties.getMaxFingerprints() * 4) {
+                fingerprints.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    private void explain(QueryStats query, String sql, StatementParameters parameters, long nanos) {
+        try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+            // Read-only only takes effect inside a transaction; it is never committed
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            StringBuilder plan = new StringBuilder();
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+                parameters.applyTo(statement);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+            }
+            query.plan = new Plan(plan.toString().stripTrailing(), Instant.now(), TimeUnit.NANOSECONDS.toMillis(nanos));
+        } catch (SQLException | RuntimeException failure) {
+            log.warn("[SQL] Could not explain {}: {}", query.fingerprint, failure.getMessage());
+        }
+    }
+
+    private static boolean explainable(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return EXPLAINABLE.contains(trimmed.substring(0, end).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * First application method below the persistence framework, with the Spring Data repository method it went
+     * through, e.g. {@code OrderService#getAll > OrderRepository#findOrderByUserId}.
+     */
+    private static String origin() {
+        return STACK_WALKER.walk(frames -> {
+            String repository = null;
+            boolean inFramework = false;
+            for (Iterator<StackWalker.StackFrame> iterator = frames.iterator(); iterator.hasNext(); ) {
+                StackWalker.StackFrame frame = iterator.next();
+                String className = frame.getClassName();
+                if (className.startsWith("org.hibernate.") || className.startsWith("org.springframework.")) {
+                    inFramework = true;
+                } else if (inFramework && className.contains("$Proxy")) {
+                    String method = repositoryMethod(frame);
+                    repository = method != null ? method : repository;
+                } else if (inFramework && className.startsWith(APPLICATION_PACKAGE) && !className.contains("$$")) {
+                    String caller = className.substring(className.lastIndexOf('.') + 1) + "#" + methodName(frame);
+                    return repository != null ? caller + " > " + repository : caller;
+                }
+            }
+            return repository != null ? repository : OTHER;
+        });
+    }
+
+    /** {@code lambda$getNotPremiumProducts$1} is reported as {@code getNotPremiumProducts}. */
+    private static String methodName(StackWalker.StackFrame frame) {
+        String name = frame.getMethodName();
+        return name.startsWith("lambda$") ? name.substring(7, Math.max(7, name.lastIndexOf('$'))) : name;
+    }
+
+    private static String repositoryMethod(StackWalker.StackFrame frame) {
+        return Arrays.stream(frame.getDeclaringClass().getInterfaces())
+                .map(Class::getSimpleName)
+                .filter(name -> name.endsWith("Repository") && !name.equals("Repository"))
+                .findFirst()
+                .map(name -> name + "#" + frame.getMethodName())
+                .orElse(null);
+    }
+
+    private record Plan(String text, Instant capturedAt, long executionMillis) {
+    }
+
+    private static final class QueryStats {
+        private final String fingerprint;
+        private final String origin;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final AtomicLong nextExplain = new AtomicLong(System.nanoTime());
+        private volatile Plan plan;
+
+        private QueryStats(String fingerprint, String origin) {
+            this.fingerprint = fingerprint;
+            this.origin = origin != null ? origin : OTHER;
+        }
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.record(nanos);
+        }
+
+        private boolean claimExplain(long intervalNanos) {
+            long now = System.nanoTime();
+            long next = nextExplain.get();
+            return now - next >= 0 && nextExplain.compareAndSet(next, now + intervalNanos);
+        }
+
+        private SlowQueryResponse toResponse(long allNanos) {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            long max = maxNanos.get();
+            Plan captured = plan;
+            return new SlowQueryResponse(
+                    fingerprint,
+                    origin,
+                    executions,
+                    millis(total),
+                    executions == 0 ? 0 : millis(total / executions),
+                    millis(Math.min(histogram.percentile(0.99), max)),
+                    millis(max),
+                    allNanos == 0 ? 0 : Math.round(total * 1000.0 / allNanos) / 10.0,
+                    slow.sum(),
+                    captured != null ? captured.text() : null,
+                    captured != null ? captured.capturedAt() : null,
+                    captured != null ? captured.executionMillis() : null);
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
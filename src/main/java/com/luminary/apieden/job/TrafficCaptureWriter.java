@@ -0,0 +1,181 @@
+package com.luminary.apieden.job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.apieden.config.TrafficCaptureProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Writes the traces recorded by {@code TrafficCaptureFilter} to rolling NDJSON files, one trace per line, from
+ * a single background thread. Request threads only offer to a bounded queue: when the writer falls behind,
+ * traces are dropped and counted in {@code traffic.capture.dropped}. Lines are written and flushed in batches.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "traffic-capture", name = "enabled", havingValue = "true")
+public class TrafficCaptureWriter implements SmartLifecycle {
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String PREFIX = "traffic-";
+    private static final String SUFFIX = ".ndjson";
+
+    private final TrafficCaptureProperties properties;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Trace> queue;
+    private final Counter written;
+    private final Counter dropped;
+    private volatile Thread thread;
+    private OutputStream output;
+    private long fileBytes;
+    private int fileSequence;
+
+    public TrafficCaptureWriter(TrafficCaptureProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.written = meterRegistry.counter("traffic.capture.written");
+        this.dropped = meterRegistry.counter("traffic.capture.dropped");
+        meterRegistry.gaugeCollectionSize("traffic.capture.pending", List.of(), queue);
+    }
+
+    public void offer(Trace trace) {
+        if (!queue.offer(trace)) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        Thread writer = new Thread(this::run, "traffic-capture");
+        writer.setDaemon(true);
+        thread = writer;
+        writer.start();
+        log.info("[CAPTURE] Recording traffic to {}", properties.getDirectory().toAbsolutePath());
+    }
+
+    @Override
+    public void stop() {
+        Thread writer = thread;
+        thread = null;
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void run() {
+        List<Trace> batch = new ArrayList<>(properties.getBatchSize());
+        try {
+            while (thread != null) {
+                Trace first = queue.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, properties.getBatchSize() - 1);
+                    write(batch);
+                }
+            }
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        queue.drainTo(batch);
+        write(batch);
+        close();
+    }
+
+    private void write(List<Trace> batch) {
+        try {
+            for (Trace trace : batch) {
+                byte[] line = objectMapper.writeValueAsBytes(trace);
+                if (output == null || fileBytes >= properties.getMaxFileSize().toBytes()) {
+                    roll();
+                }
+                output.write(line);
+                output.write('\n');
+                fileBytes += line.length + 1;
+            }
+            output.flush();
+            written.increment(batch.size());
+        } catch (IOException exception) {
+            dropped.increment(batch.size());
+            log.error("[CAPTURE] Could not write {} traces: {}", batch.size(), exception.toString());
+            close();
+        }
+        batch.clear();
+    }
+
+    private void roll() throws IOException {
+        close();
+        Path directory = properties.getDirectory();
+        Files.createDirectories(directory);
+        Path file = directory.resolve(PREFIX + LocalDateTime.now().format(FILE_TIMESTAMP)
+                + String.format("-%04d", fileSequence++ % 10_000) + SUFFIX);
+        output = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+        fileBytes = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> captures = files
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX) && path.toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+            for (Path old : captures.subList(0, Math.max(0, captures.size() - properties.getMaxFiles()))) {
+                Files.deleteIfExists(old);
+            }
+        }
+    }
+
+    private void close() {
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException exception) {
+                log.warn("[CAPTURE] Could not close capture file: {}", exception.toString());
+            }
+            output = null;
+        }
+    }
+
+    /**
+     * One request as recorded: {@code startedAt} in epoch milliseconds, {@code route} the matched handler pattern,
+     * {@code headers} without the redacted ones, the body as SHA-256 of its first {@code max-body-size} bytes and,
+     * when enabled, the redacted JSON body itself.
+     */
+    public record Trace(long startedAt,
+                        String method,
+                        String route,
+                        String path,
+                        String query,
+                        Map<String, String> headers,
+                        long bodyLength,
+                        String bodySha256,
+                        String body,
+                        int status,
+                        long durationMicros) {
+    }
+}
@@ -1,15 +1,24 @@
 package com.luminary.apieden.mapper;
 
 import com.luminary.apieden.model.database.Card;
+import com.luminary.apieden.model.projection.CardProjection;
 import com.luminary.apieden.model.request.CardRequest;
 import com.luminary.apieden.model.response.CardResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 @Mapper(componentModel = "spring")
 public interface CardMapper {
+    String MASK = "************";
+
     Card toCards(CardRequest request);
 
-    @Mapping(source = "userId", target = "userId")
-    CardResponse toCardResponse(Card card);
+    @Mapping(source = "lastDigits", target = "cardNumber", qualifiedByName = "mask")
+    CardResponse toCardResponse(CardProjection card);
+
+    @Named("mask")
+    default String mask(String lastDigits) {
+        return lastDigits == null ? null : MASK + lastDigits;
+    }
 }
@@ -1,7 +1,9 @@
 package com.luminary.apieden.mapper;
 
 import com.luminary.apieden.model.client.ForumResponse;
+import com.luminary.apieden.model.database.User;
 import com.luminary.apieden.model.response.FindForumResponse;
+import com.luminary.apieden.model.response.ForumUserResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -9,5 +11,8 @@ import org.mapstruct.Mapping;
 public interface ForumMapper {
     @Mapping(source = "forumResponse.id", target = "id")
     @Mapping(source = "forumResponse.comments", target = "comments", ignore = true)
+    @Mapping(target = "user", ignore = true)
     FindForumResponse toFindForumResponse(ForumResponse forumResponse);
+
+    ForumUserResponse toForumUserResponse(User user);
 }
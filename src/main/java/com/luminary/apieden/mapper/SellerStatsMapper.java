@@ -0,0 +1,10 @@
+package com.luminary.apieden.mapper;
+
+import com.luminary.apieden.model.database.SellerSalesDaily;
+import com.luminary.apieden.model.response.SellerDailyStatsResponse;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface SellerStatsMapper {
+    SellerDailyStatsResponse toSellerDailyStatsResponse(SellerSalesDaily sellerSalesDaily);
+}
@@ -1,7 +1,10 @@
 package com.luminary.apieden.model.database;
 
+import com.luminary.apieden.model.enums.ProductAvailability;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -78,4 +81,10 @@ public class Product {
 
     @Column(name = "premium")
     private boolean premium;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "availability", nullable = false)
+    @Schema(name = "availability", description = "Whether the product can still be bought", example = "AVAILABLE")
+    private ProductAvailability availability = ProductAvailability.AVAILABLE;
 }
@@ -0,0 +1,40 @@
+package com.luminary.apieden.model.database;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "seller_sales_daily")
+public class SellerSalesDaily {
+    @Id
+    @Column(name = "pk_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "fk_seller_id")
+    private long sellerId;
+
+    @Column(name = "sale_date")
+    private LocalDate saleDate;
+
+    @Column(name = "units")
+    private long units;
+
+    @Column(name = "gross_revenue")
+    private double grossRevenue;
+
+    @Column(name = "distinct_buyers")
+    private long distinctBuyers;
+}
@@ -1,5 +1,6 @@
 package com.luminary.apieden.model.database;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -17,6 +18,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.Email;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.hibernate.validator.constraints.br.CPF;
 import lombok.Getter;
 import lombok.Setter;
@@ -25,7 +28,7 @@ import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
-import java.util.Set;
+import java.util.Arrays;
 
 @Getter
 @Setter
@@ -37,6 +40,8 @@ import java.util.Set;
 @Table(name = "users")
 @Schema(name = "UserSchema", description = "Schema of users")
 public class User {
+    public static final int RATING_BUCKETS = 10;
+
     @Id
     @Column(name = "pk_id")
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -67,7 +72,7 @@ public class User {
     @Schema(name = "password", description = "The password of the user", example = "megaSenha@123")
     private String password;
 
-    @Column(name = "rating")
+    @Column(name = "rating", updatable = false)
     @Max(message = "O campo 'rating' não pode ser acima de 5", value = 5)
     @Min(message = "O campo 'rating' não pode ser abaixo de 0", value = 0)
     @Schema(name = "rating", description = "The rating of the user", example = "3.5")
@@ -85,4 +90,56 @@ public class User {
     @Size(message = "O campo 'cellphone' tem que ter 11 digítos", min = 11, max = 11)
     @Schema(name = "cellphone", description = "The phone of the user", example = "11400289220")
     private String cellphone;
+
+    @JsonIgnore
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    @Schema(hidden = true)
+    private double ratingSum;
+
+    @JsonIgnore
+    @Column(name = "rating_count", nullable = false, updatable = false)
+    @Schema(hidden = true)
+    private long ratingCount;
+
+    @JsonIgnore
+    @ToString.Exclude
+    @Schema(hidden = true)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "rating_histogram", nullable = false, updatable = false)
+    @Builder.Default
+    private int[] ratingHistogram = new int[RATING_BUCKETS];
+
+    /**
+     * Bucket of a rating value in the histogram: 0.5 goes to bucket 0, 1.0 to bucket 1, ..., 5.0 to bucket 9.
+     */
+    public static int ratingBucket(float rating) {
+        int bucket = Math.round(rating * 2) - 1;
+        return Math.max(0, Math.min(RATING_BUCKETS - 1, bucket));
+    }
+
+    public void addRating(float value) {
+        applyRating(value, 1);
+        recalculateRating();
+    }
+
+    public void replaceRating(float oldValue, float newValue) {
+        applyRating(oldValue, -1);
+        applyRating(newValue, 1);
+        recalculateRating();
+    }
+
+    private void applyRating(float value, int direction) {
+        if (ratingHistogram == null || ratingHistogram.length != RATING_BUCKETS) {
+            ratingHistogram = ratingHistogram == null
+                    ? new int[RATING_BUCKETS]
+                    : Arrays.copyOf(ratingHistogram, RATING_BUCKETS);
+        }
+        ratingSum += direction * value;
+        ratingCount += direction;
+        ratingHistogram[ratingBucket(value)] += direction;
+    }
+
+    private void recalculateRating() {
+        rating = ratingCount > 0 ? (float) (ratingSum / ratingCount) : 0;
+    }
 }
@@ -0,0 +1,7 @@
+package com.luminary.apieden.model.enums;
+
+public enum ProductAvailability {
+    AVAILABLE,
+    RESERVED,
+    SOLD
+}
@@ -0,0 +1,25 @@
+package com.luminary.apieden.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Setter
+@Name("com.luminary.apieden.CartView")
+@Label("Cart View")
+@Category({"ApiEden", "Business"})
+@Description("CartService.findCartItemsByCartId")
+@StackTrace(false)
+public class CartViewEvent extends jdk.jfr.Event {
+    @Label("Cart Id")
+    private long cartId;
+
+    @Label("Items")
+    private int items;
+
+    @Label("Total Sale")
+    private double totalSale;
+}
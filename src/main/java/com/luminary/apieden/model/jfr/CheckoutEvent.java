@@ -0,0 +1,35 @@
+package com.luminary.apieden.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Setter
+@Name("com.luminary.apieden.Checkout")
+@Label("Checkout")
+@Category({"ApiEden", "Business"})
+@Description("OrderService.registerOrder, from the cart lookup to the Neo4j relationships")
+@StackTrace(false)
+public class CheckoutEvent extends jdk.jfr.Event {
+    @Label("Cart Id")
+    private long cartId;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Order Id")
+    private long orderId;
+
+    @Label("Items")
+    private int items;
+
+    @Label("Total Sale")
+    private double totalSale;
+
+    @Label("Outcome")
+    @Description("OK, or the HTTP status of the error that ended the checkout")
+    private String outcome;
+}
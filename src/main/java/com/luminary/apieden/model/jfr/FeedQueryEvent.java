@@ -0,0 +1,28 @@
+package com.luminary.apieden.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Setter
+@Name("com.luminary.apieden.FeedQuery")
+@Label("Feed Query")
+@Category({"ApiEden", "Business"})
+@Description("Product feed and search: premium, regular or title")
+@StackTrace(false)
+public class FeedQueryEvent extends jdk.jfr.Event {
+    @Label("Feed")
+    private String feed;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Title")
+    private String title;
+
+    @Label("Results")
+    private int results;
+}
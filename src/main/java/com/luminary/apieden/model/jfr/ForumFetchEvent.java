@@ -0,0 +1,29 @@
+package com.luminary.apieden.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Setter
+@Name("com.luminary.apieden.ForumFetch")
+@Label("Forum Fetch")
+@Category({"ApiEden", "Business"})
+@Description("ForumService: posts fetched from the forum API or its snapshot, hydrated with their users")
+@StackTrace(false)
+public class ForumFetchEvent extends jdk.jfr.Event {
+    @Label("Author Id")
+    @Description("Thread requested, empty for the whole forum")
+    private String authorId;
+
+    @Label("Page")
+    private int page;
+
+    @Label("Posts")
+    private int posts;
+
+    @Label("Fan Out")
+    private boolean fanOut;
+}
@@ -0,0 +1,41 @@
+package com.luminary.apieden.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+@Setter
+@Name("com.luminary.apieden.OutboundCall")
+@Label("Outbound Call")
+@Category({"ApiEden", "HTTP"})
+@Description("One Feign attempt, so retries show up as separate events")
+@StackTrace(false)
+public class OutboundCallEvent extends jdk.jfr.Event {
+    @Label("Client")
+    private String client;
+
+    @Label("Method")
+    @Description("Feign config key, e.g. ForumClient#findAll()")
+    private String method;
+
+    @Label("HTTP Method")
+    private String httpMethod;
+
+    @Label("URL")
+    private String url;
+
+    @Label("Status")
+    @Description("-1 when no response was received")
+    private int status;
+
+    @Label("Response Size")
+    @DataAmount
+    private long responseSize;
+
+    @Label("Error")
+    private String error;
+}
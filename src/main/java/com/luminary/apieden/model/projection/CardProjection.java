@@ -0,0 +1,8 @@
+package com.luminary.apieden.model.projection;
+
+public interface CardProjection {
+    long getId();
+    long getUserId();
+    String getLastDigits();
+    String getValidity();
+}
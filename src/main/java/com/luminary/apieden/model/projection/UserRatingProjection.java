@@ -0,0 +1,7 @@
+package com.luminary.apieden.model.projection;
+
+public interface UserRatingProjection {
+    long getId();
+    float getRating();
+    long getRatingCount();
+}
@@ -1,6 +1,5 @@
 package com.luminary.apieden.model.response;
 
-import com.luminary.apieden.model.database.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +10,6 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 public class FindForumComment {
-    private User user;
+    private ForumUserResponse user;
     private String content;
 }
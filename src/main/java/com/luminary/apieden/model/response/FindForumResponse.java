@@ -1,6 +1,5 @@
 package com.luminary.apieden.model.response;
 
-import com.luminary.apieden.model.database.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,7 +14,7 @@ import java.util.List;
 public class FindForumResponse {
     private String id;
     private long postId;
-    private User user;
+    private ForumUserResponse user;
     private String content;
     private List<FindForumComment> comments;
     private LocalDateTime postDate;
@@ -0,0 +1,19 @@
+package com.luminary.apieden.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(name = "ForumUserSchema", description = "Summary of the author of a post or comment")
+public class ForumUserResponse {
+    @Schema(name = "id", description = "The id of the user", example = "6")
+    private long id;
+    @Schema(name = "name", description = "The name of the user", example = "Pedro Moisés")
+    private String name;
+    @Schema(name = "userName", description = "The user name of the app", example = "pedro.gusmao")
+    private String userName;
+    @Schema(name = "rating", description = "The rating of the user", example = "3.5")
+    private float rating;
+}
@@ -0,0 +1,24 @@
+package com.luminary.apieden.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@Schema(name = "JfrRecordingSchema", description = "State of the on-demand JFR recording")
+public class JfrRecordingResponse {
+    @Schema(name = "state", description = "NEW, DELAYED, RUNNING, STOPPED or CLOSED", example = "RUNNING")
+    private String state;
+    @Schema(name = "settings", description = "JDK settings the recording was started with", example = "profile")
+    private String settings;
+    @Schema(name = "startTime", description = "When the recording started", example = "2024-08-01T10:00:00Z")
+    private Instant startTime;
+    @Schema(name = "duration", description = "Duration after which the recording stops", example = "PT1M")
+    private Duration duration;
+    @Schema(name = "size", description = "Bytes recorded so far", example = "1048576")
+    private long size;
+}
@@ -0,0 +1,21 @@
+package com.luminary.apieden.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(name = "LeaderboardEntrySchema", description = "Position of a seller in the rating leaderboard")
+public class LeaderboardEntryResponse {
+    @Schema(name = "rank", description = "Position of the seller, starting at 1", example = "1")
+    private long rank;
+    @Schema(name = "userId", description = "The id of the seller", example = "6")
+    private long userId;
+    @Schema(name = "userName", description = "The user name of the seller", example = "pedro.gusmao")
+    private String userName;
+    @Schema(name = "rating", description = "The rating of the seller", example = "4.5")
+    private float rating;
+    @Schema(name = "ratingCount", description = "How many ratings the seller received", example = "12")
+    private long ratingCount;
+}
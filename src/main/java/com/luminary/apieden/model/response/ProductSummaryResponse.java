@@ -0,0 +1,34 @@
+package com.luminary.apieden.model.response;
+
+import com.luminary.apieden.model.enums.ProductAvailability;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(name = "ProductSummarySchema", description = "A product with a summary of its seller, as served by the reactive read path")
+public class ProductSummaryResponse {
+    @Schema(name = "id", description = "The id of the product", example = "12")
+    private long id;
+    @Schema(name = "usageTimeId", description = "The corresponding usage time", example = "1")
+    private long usageTimeId;
+    @Schema(name = "conditionTypeId", description = "The corresponding condition type", example = "1")
+    private long conditionTypeId;
+    @Schema(name = "title", description = "Title of the product", example = "PC Gamer")
+    private String title;
+    @Schema(name = "description", description = "Description of the product")
+    private String description;
+    @Schema(name = "price", description = "Price of the product", example = "1500.0")
+    private double price;
+    @Schema(name = "maxPrice", description = "Maximum price of the product", example = "2000.0")
+    private double maxPrice;
+    @Schema(name = "senderZipCode", description = "Zip code the product ships from", example = "01310100")
+    private String senderZipCode;
+    @Schema(name = "premium", description = "Whether the product is premium")
+    private boolean premium;
+    @Schema(name = "availability", description = "Whether the product can still be bought", example = "AVAILABLE")
+    private ProductAvailability availability;
+    @Schema(name = "seller", description = "Summary of the user selling the product")
+    private ForumUserResponse seller;
+}
@@ -0,0 +1,20 @@
+package com.luminary.apieden.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class SellerDailyStatsResponse {
+    @Schema(name = "saleDate", description = "The day the sales happened", example = "2024-08-01")
+    private LocalDate saleDate;
+    @Schema(name = "units", description = "Units sold in the day", example = "3")
+    private long units;
+    @Schema(name = "grossRevenue", description = "Gross revenue of the day", example = "1500.0")
+    private double grossRevenue;
+    @Schema(name = "distinctBuyers", description = "Distinct buyers in the day", example = "2")
+    private long distinctBuyers;
+}
@@ -0,0 +1,28 @@
+package com.luminary.apieden.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(name = "SellerStatsSchema", description = "Sales aggregates of a seller in a period")
+public class SellerStatsResponse {
+    @Schema(name = "sellerId", description = "The id of the seller", example = "1")
+    private long sellerId;
+    @Schema(name = "from", description = "First day of the period", example = "2024-07-01")
+    private LocalDate from;
+    @Schema(name = "to", description = "Last day of the period", example = "2024-07-31")
+    private LocalDate to;
+    @Schema(name = "units", description = "Units sold in the period", example = "10")
+    private long units;
+    @Schema(name = "grossRevenue", description = "Gross revenue of the period", example = "5000.0")
+    private double grossRevenue;
+    @Schema(name = "distinctBuyers", description = "Distinct buyers in the period", example = "7")
+    private long distinctBuyers;
+    @Schema(name = "days", description = "Aggregates of each day with sales in the period")
+    private List<SellerDailyStatsResponse> days;
+}
@@ -0,0 +1,40 @@
+package com.luminary.apieden.model.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@Schema(name = "SlowQuerySchema", description = "Execution statistics of one SQL fingerprint since startup or the last reset")
+public class SlowQueryResponse {
+    @Schema(name = "fingerprint", description = "SQL with literals replaced by '?' and IN lists collapsed",
+            example = "select o1_0.pk_id,o1_0.fk_user_id from orders o1_0 where o1_0.fk_user_id=?")
+    private String fingerprint;
+    @Schema(name = "origin", description = "Caller and repository method that first executed it",
+            example = "OrderService#getAll > OrderRepository#findOrderByUserId")
+    private String origin;
+    @Schema(name = "count", description = "Executions", example = "1520")
+    private long count;
+    @Schema(name = "totalMillis", description = "Time spent executing it", example = "3840.512")
+    private double totalMillis;
+    @Schema(name = "meanMillis", example = "2.527")
+    private double meanMillis;
+    @Schema(name = "p99Millis", description = "99th percentile, at most 12.5% above the real value", example = "18.431")
+    private double p99Millis;
+    @Schema(name = "maxMillis", example = "212.004")
+    private double maxMillis;
+    @Schema(name = "sharePercent", description = "Share of the time spent in all statements", example = "41.7")
+    private double sharePercent;
+    @Schema(name = "slowCount", description = "Executions above 'slow-queries.threshold'", example = "3")
+    private long slowCount;
+    @Schema(name = "plan", description = "EXPLAIN output of a slow execution, with its parameters",
+            example = "Seq Scan on orders o1_0  (cost=0.00..16320.00 rows=2 width=48)")
+    private String plan;
+    @Schema(name = "planCapturedAt", example = "2024-08-01T10:00:00Z")
+    private Instant planCapturedAt;
+    @Schema(name = "planExecutionMillis", description = "Duration of the execution whose plan was captured", example = "212")
+    private Long planExecutionMillis;
+}
@@ -28,6 +28,13 @@ public class UserResponse {
     @Schema(name = "rating", description = "The rating of the user", example = "3.5")
     private float rating;
 
+    @Schema(name = "ratingCount", description = "How many ratings the user received", example = "12")
+    private long ratingCount;
+
+    @Schema(name = "ratingHistogram", description = "Ratings received per value, from 0.5 (first bucket) to 5.0 (last bucket) in steps of 0.5",
+            example = "[0, 0, 1, 0, 2, 1, 3, 2, 1, 2]")
+    private int[] ratingHistogram;
+
     @Schema(name = "email", description = "The email of the user", example = "pedro.pedro@mail.com")
     private String email;
 
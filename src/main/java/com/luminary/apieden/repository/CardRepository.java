@@ -1,12 +1,20 @@
 package com.luminary.apieden.repository;
 
 import com.luminary.apieden.model.database.Card;
-import com.luminary.apieden.model.database.User;
+import com.luminary.apieden.model.projection.CardProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CardRepository extends JpaRepository<Card, Long> {
+    @Query("SELECT c.id AS id, c.userId AS userId, SUBSTRING(c.cardNumber, LENGTH(c.cardNumber) - 3, 4) AS lastDigits, "
+            + "c.validity AS validity FROM Card c WHERE c.userId = :userId ORDER BY c.id")
+    List<CardProjection> findWalletByUserId(@Param("userId") long userId);
 
-    List<Card> findById(long userId);
+    @Query("SELECT c.id AS id, c.userId AS userId, SUBSTRING(c.cardNumber, LENGTH(c.cardNumber) - 3, 4) AS lastDigits, "
+            + "c.validity AS validity FROM Card c WHERE c.userId IN :userIds ORDER BY c.userId, c.id")
+    List<CardProjection> findWalletsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
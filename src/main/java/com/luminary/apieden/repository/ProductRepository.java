@@ -1,13 +1,39 @@
 package com.luminary.apieden.repository;
 
 import com.luminary.apieden.model.database.Product;
+import com.luminary.apieden.model.enums.ProductAvailability;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByUserId(long id);
-    List<Product> findProductsByUserIdNotAndTitleLikeIgnoreCase(long userId, String title);
-    List<Product> findProductsByUserIdNotAndPremiumIsTrue(long userId);
-    List<Product> findProductsByUserIdNotAndPremiumIsFalse(long userId);
+
+    @Query("SELECT p FROM Product p WHERE p.user.id <> :userId AND UPPER(p.title) LIKE UPPER(:title) " +
+            "AND p.availability = com.luminary.apieden.model.enums.ProductAvailability.AVAILABLE")
+    List<Product> findAvailableProductsByUserIdNotAndTitleLike(@Param("userId") long userId, @Param("title") String title);
+
+    @Query("SELECT p FROM Product p WHERE p.user.id <> :userId AND p.premium = :premium " +
+            "AND p.availability = com.luminary.apieden.model.enums.ProductAvailability.AVAILABLE")
+    List<Product> findAvailableProductsByUserIdNotAndPremium(@Param("userId") long userId, @Param("premium") boolean premium);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.availability = :next WHERE p.id = :id AND p.availability = :expected")
+    int compareAndSetAvailability(@Param("id") long id,
+                                  @Param("expected") ProductAvailability expected,
+                                  @Param("next") ProductAvailability next);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.usageTimeId = :#{#product.usageTimeId}, p.conditionTypeId = :#{#product.conditionTypeId}, " +
+            "p.title = :#{#product.title}, p.description = :#{#product.description}, p.price = :#{#product.price}, " +
+            "p.maxPrice = :#{#product.maxPrice}, p.senderZipCode = :#{#product.senderZipCode} " +
+            "WHERE p.id = :#{#product.id} " +
+            "AND p.availability = com.luminary.apieden.model.enums.ProductAvailability.AVAILABLE")
+    int updateDetailsIfAvailable(@Param("product") Product product);
 }
@@ -0,0 +1,61 @@
+package com.luminary.apieden.repository;
+
+import com.luminary.apieden.model.database.SellerSalesDaily;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SellerSalesDailyRepository extends JpaRepository<SellerSalesDaily, Long> {
+    List<SellerSalesDaily> findBySellerIdAndSaleDateBetweenOrderBySaleDate(long sellerId, LocalDate from, LocalDate to);
+
+    @Query(value = "SELECT COUNT(DISTINCT ssb.fk_buyer_id) FROM seller_sales_buyers ssb " +
+            "WHERE ssb.fk_seller_id = :sellerId AND ssb.sale_date BETWEEN :from AND :to", nativeQuery = true)
+    long countDistinctBuyers(@Param("sellerId") long sellerId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO seller_sales_buyers (fk_seller_id, sale_date, fk_buyer_id) " +
+            "VALUES (:sellerId, :saleDate, :buyerId) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int registerBuyer(@Param("sellerId") long sellerId, @Param("saleDate") LocalDate saleDate, @Param("buyerId") long buyerId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO seller_sales_daily (fk_seller_id, sale_date, units, gross_revenue, distinct_buyers) " +
+            "VALUES (:sellerId, :saleDate, :units, :revenue, :newBuyers) " +
+            "ON CONFLICT (fk_seller_id, sale_date) DO UPDATE SET " +
+            "units = seller_sales_daily.units + EXCLUDED.units, " +
+            "gross_revenue = seller_sales_daily.gross_revenue + EXCLUDED.gross_revenue, " +
+            "distinct_buyers = seller_sales_daily.distinct_buyers + EXCLUDED.distinct_buyers", nativeQuery = true)
+    void accumulate(@Param("sellerId") long sellerId,
+                    @Param("saleDate") LocalDate saleDate,
+                    @Param("units") long units,
+                    @Param("revenue") double revenue,
+                    @Param("newBuyers") int newBuyers);
+
+    @Modifying
+    @Transactional
+    @Query(value = "TRUNCATE seller_sales_daily, seller_sales_buyers", nativeQuery = true)
+    void truncate();
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO seller_sales_buyers (fk_seller_id, sale_date, fk_buyer_id) " +
+            "SELECT DISTINCT p.fk_user_id, o.order_date, o.fk_user_id FROM orders o " +
+            "JOIN orders_itens oi ON oi.fk_order_id = o.pk_id " +
+            "JOIN products p ON p.pk_id = oi.fk_product_id", nativeQuery = true)
+    int backfillBuyers();
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO seller_sales_daily (fk_seller_id, sale_date, units, gross_revenue, distinct_buyers) " +
+            "SELECT p.fk_user_id, o.order_date, COUNT(*), SUM(p.price), COUNT(DISTINCT o.fk_user_id) FROM orders o " +
+            "JOIN orders_itens oi ON oi.fk_order_id = o.pk_id " +
+            "JOIN products p ON p.pk_id = oi.fk_product_id " +
+            "GROUP BY p.fk_user_id, o.order_date", nativeQuery = true)
+    int backfillDaily();
+}
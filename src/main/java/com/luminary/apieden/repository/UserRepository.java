@@ -1,8 +1,11 @@
 package com.luminary.apieden.repository;
 
 import com.luminary.apieden.model.database.User;
+import com.luminary.apieden.model.projection.UserRatingProjection;
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +19,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserName(String username);
     Optional<User> findByCellphone(String phone);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") long userId);
+
+    /**
+     * The rating aggregates are not updatable through the entity, so a profile edit saving a stale copy of the
+     * user can't overwrite them; {@code RatingService} writes them here while holding {@link #findByIdForUpdate}.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.rating = :#{#user.rating}, u.ratingSum = :#{#user.ratingSum}, " +
+            "u.ratingCount = :#{#user.ratingCount}, u.ratingHistogram = :#{#user.ratingHistogram} " +
+            "WHERE u.id = :#{#user.id}")
+    void updateRatingAggregates(@Param("user") User user);
+
+    @Query("SELECT u.id AS id, u.rating AS rating, u.ratingCount AS ratingCount FROM User u WHERE u.ratingCount > 0")
+    List<UserRatingProjection> findRatedUsers();
+
     @Query(value = "SELECT fav.fk_product_id FROM favorites fav WHERE fav.fk_user_id = :userId", nativeQuery = true)
     List<Long> findFavorites(@Param("userId") Long userId);
 
@@ -33,9 +54,4 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Transactional
     @Query(value = "DELETE FROM favorites WHERE favorites.fk_product_id = :productId", nativeQuery = true)
     void removeFavoriteProduct(@Param("productId") Long productId);
-
-    @Modifying
-    @Transactional
-    @Query(value = "CALL user_rating_calc(:user_id)", nativeQuery = true)
-    void userRating(@Param("user_id") int userId);
 }
@@ -0,0 +1,82 @@
+package com.luminary.apieden.repository.reactive;
+
+import com.luminary.apieden.model.enums.ProductAvailability;
+import com.luminary.apieden.model.response.ForumUserResponse;
+import com.luminary.apieden.model.response.ProductSummaryResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC mirror of the {@code ProductRepository} finders, returning the product joined with its seller summary
+ * instead of the full {@code Product}/{@code User} entities.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveProductRepository {
+    private static final String SELECT = "SELECT p.pk_id, p.fk_usage_time_id, p.fk_condition_type_id, p.title, "
+            + "p.description, p.price, p.max_price, p.sender_zip_code, p.premium, p.availability, "
+            + "u.pk_id AS seller_id, u.name AS seller_name, u.user_name AS seller_user_name, u.rating AS seller_rating "
+            + "FROM products p JOIN users u ON u.pk_id = p.fk_user_id ";
+    private static final String AVAILABLE = "p.availability = 'AVAILABLE'";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Flux<ProductSummaryResponse> findByUserId(long userId) {
+        return reactiveDatabaseClient.sql(SELECT + "WHERE p.fk_user_id = :userId")
+                .bind("userId", userId)
+                .map(ReactiveProductRepository::toProductSummary)
+                .all();
+    }
+
+    public Flux<ProductSummaryResponse> findAvailableProductsByUserIdNotAndTitleLike(long userId, String title) {
+        return reactiveDatabaseClient.sql(SELECT + "WHERE p.fk_user_id <> :userId AND UPPER(p.title) LIKE UPPER(:title) AND " + AVAILABLE)
+                .bind("userId", userId)
+                .bind("title", title)
+                .map(ReactiveProductRepository::toProductSummary)
+                .all();
+    }
+
+    public Flux<ProductSummaryResponse> findAvailableProductsByUserIdNotAndPremium(long userId, boolean premium) {
+        return reactiveDatabaseClient.sql(SELECT + "WHERE p.fk_user_id <> :userId AND p.premium = :premium AND " + AVAILABLE)
+                .bind("userId", userId)
+                .bind("premium", premium)
+                .map(ReactiveProductRepository::toProductSummary)
+                .all();
+    }
+
+    public Mono<ProductSummaryResponse> findById(long id) {
+        return reactiveDatabaseClient.sql(SELECT + "WHERE p.pk_id = :id")
+                .bind("id", id)
+                .map(ReactiveProductRepository::toProductSummary)
+                .one();
+    }
+
+    private static ProductSummaryResponse toProductSummary(Readable row) {
+        ForumUserResponse seller = new ForumUserResponse();
+        seller.setId(row.get("seller_id", Long.class));
+        seller.setName(row.get("seller_name", String.class));
+        seller.setUserName(row.get("seller_user_name", String.class));
+        Float rating = row.get("seller_rating", Float.class);
+        seller.setRating(rating == null ? 0 : rating);
+        Boolean premium = row.get("premium", Boolean.class);
+        return ProductSummaryResponse.builder()
+                .id(row.get("pk_id", Long.class))
+                .usageTimeId(row.get("fk_usage_time_id", Long.class))
+                .conditionTypeId(row.get("fk_condition_type_id", Long.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .price(row.get("price", Double.class))
+                .maxPrice(row.get("max_price", Double.class))
+                .senderZipCode(row.get("sender_zip_code", String.class))
+                .premium(Boolean.TRUE.equals(premium))
+                .availability(ProductAvailability.valueOf(row.get("availability", String.class)))
+                .seller(seller)
+                .build();
+    }
+}
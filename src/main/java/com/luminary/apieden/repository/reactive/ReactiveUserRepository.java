@@ -0,0 +1,35 @@
+package com.luminary.apieden.repository.reactive;
+
+import com.luminary.apieden.model.response.ForumUserResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveUserRepository {
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Flux<ForumUserResponse> findSummariesById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return reactiveDatabaseClient.sql("SELECT pk_id, name, user_name, rating FROM users WHERE pk_id IN (:ids)")
+                .bind("ids", ids)
+                .map(row -> {
+                    ForumUserResponse user = new ForumUserResponse();
+                    user.setId(row.get("pk_id", Long.class));
+                    user.setName(row.get("name", String.class));
+                    user.setUserName(row.get("user_name", String.class));
+                    Float rating = row.get("rating", Float.class);
+                    user.setRating(rating == null ? 0 : rating);
+                    return user;
+                })
+                .all();
+    }
+}
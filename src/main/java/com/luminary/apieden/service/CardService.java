@@ -7,30 +7,74 @@ import com.luminary.apieden.model.request.CardRequest;
 import com.luminary.apieden.model.response.CardResponse;
 import com.luminary.apieden.repository.CardRepository;
 import com.luminary.apieden.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CardService {
+    public static final String WALLET_CACHE = "wallets";
+    public static final int MAX_BULK_USERS = 50;
+
     private final CardRepository cardRepository;
     private final UserRepository userRepository;
     private final CardMapper cardMapper;
+    private final Cache wallets;
+
+    public CardService(CardRepository cardRepository, UserRepository userRepository, CardMapper cardMapper,
+                       CacheManager cacheManager) {
+        this.cardRepository = cardRepository;
+        this.userRepository = userRepository;
+        this.cardMapper = cardMapper;
+        this.wallets = Objects.requireNonNull(cacheManager.getCache(WALLET_CACHE), "Cache 'wallets' não configurado");
+    }
 
     public List<CardResponse> findByUserId(String userId) {
-        try {
-            List<Card> cardList = cardRepository.findById(Long.parseLong(userId));
-            return cardList.stream()
+        long id = Long.parseLong(userId);
+        return wallets.get(id, () -> loadWallet(id));
+    }
+
+    /**
+     * Wallets of several users at once, in the order requested. Cached wallets are served from memory and
+     * the misses are loaded with one query and cached.
+     */
+    public Map<Long, List<CardResponse>> findByUserIds(List<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        if (ids.isEmpty() || ids.size() > MAX_BULK_USERS) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "Informe entre 1 e " + MAX_BULK_USERS + " usuários");
+        }
+        Map<Long, List<CardResponse>> result = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            List<CardResponse> cached = cachedWallet(id);
+            result.put(id, cached);
+            if (cached == null) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, List<CardResponse>> loaded = cardRepository.findWalletsByUserIdIn(missing).stream()
                     .map(cardMapper::toCardResponse)
-                    .toList();
-        } catch (NullPointerException npe) {
-            return List.of();
+                    .collect(Collectors.groupingBy(CardResponse::getUserId, Collectors.toUnmodifiableList()));
+            missing.forEach(id -> {
+                List<CardResponse> wallet = loaded.getOrDefault(id, List.of());
+                wallets.put(id, wallet);
+                result.put(id, wallet);
+            });
         }
+        return result;
     }
 
     public Card registerCard(CardRequest cardRequest) {
@@ -43,16 +87,31 @@ public class CardService {
         log.info("[CARDS] Card prepared");
         log.info("[CARDS] Persisting card in database");
         cardRepository.save(cards);
+        wallets.evict(cards.getUserId());
         log.info("[CARDS] Card persisted in database");
 
         return cards;
     }
 
     public void deleteCard(String id) {
-        cardRepository.findById(Long.valueOf(id))
+        Card card = cardRepository.findById(Long.valueOf(id))
                 .orElseThrow(() -> new HttpError(HttpStatus.BAD_REQUEST, "Cartão não encontrado"));
 
         log.info("[CARDS] Deleting card");
-        cardRepository.deleteById(Long.valueOf(id));
+        cardRepository.deleteById(card.getId());
+        wallets.evict(card.getUserId());
+    }
+
+    private List<CardResponse> loadWallet(long userId) {
+        log.info("[CARDS] Loading wallet of user {}", userId);
+        return cardRepository.findWalletByUserId(userId).stream()
+                .map(cardMapper::toCardResponse)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CardResponse> cachedWallet(long userId) {
+        Cache.ValueWrapper cached = wallets.get(userId);
+        return cached == null ? null : (List<CardResponse>) cached.get();
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,9 @@ import com.luminary.apieden.mapper.CartMapper;
 import com.luminary.apieden.model.database.Cart;
 import com.luminary.apieden.model.database.CartItem;
 import com.luminary.apieden.model.database.Product;
+import com.luminary.apieden.model.enums.ProductAvailability;
 import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.jfr.CartViewEvent;
 import com.luminary.apieden.model.request.CartItemRequest;
 import com.luminary.apieden.model.response.CartItemResponse;
 import com.luminary.apieden.model.response.FindCartItemResponse;
@@ -28,6 +30,8 @@ public class CartService {
     private final ProductRepository productRepository;
     private final CartMapper cartMapper;
     public FindCartItemResponse findCartItemsByCartId(String cartId) {
+        CartViewEvent event = new CartViewEvent();
+        event.begin();
         log.info("Finding cartItems by cart id: {}", cartId);
         List<CartItem> cartItemList = cartItemRepository.findCartItemsByCartId(Long.parseLong(cartId));
         List<CartItemResponse> cartItemResponseList = cartItemList.stream()
@@ -41,12 +45,19 @@ public class CartService {
                     log.error("[Cart Service] Cart could not be found to return totalSale");
                     return new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Não conseguiu encontrar carrinho.");
                 });
+        event.setCartId(cart.getId());
+        event.setItems(cartItemResponseList.size());
+        event.setTotalSale(cart.getTotalSale());
+        event.commit();
         return cartMapper.toFindCartItemResponse(cartItemResponseList, cart.getTotalSale());
     }
     public RegisterCartItemResponse register(CartItemRequest request) {
         log.info("Finding product described in cardItem.productId. ID: {}", request.getProductsId());
         Product product = productRepository.findById(request.getProductsId())
                 .orElseThrow(() -> new HttpError(HttpStatus.BAD_REQUEST, "Produto não encontrado"));
+        if (product.getAvailability() != ProductAvailability.AVAILABLE) {
+            throw new HttpError(HttpStatus.CONFLICT, "Produto não está mais disponível");
+        }
         if (!cartItemRepository
                 .findCartItemByCartIdAndProductId(request.getCartId(), product.getId())
                 .isEmpty()
@@ -1,20 +1,27 @@
 package com.luminary.apieden.service;
 
+import com.luminary.apieden.config.AdminProperties;
 import com.luminary.apieden.model.database.User;
 import com.luminary.apieden.repository.UserRepository;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.util.List;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
+    private static final List<GrantedAuthority> ADMIN = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final UserRepository usersRepository;
+    private final AdminProperties adminProperties;
 
-    public CustomUserDetailsService(UserRepository usersRepository) {
+    public CustomUserDetailsService(UserRepository usersRepository, AdminProperties adminProperties) {
         this.usersRepository = usersRepository;
+        this.adminProperties = adminProperties;
     }
 
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -28,7 +35,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                 true,
                 true,
                 true,
-                new ArrayList<>()
+                adminProperties.getEmails().contains(email) ? ADMIN : List.of()
         );
     }
 }
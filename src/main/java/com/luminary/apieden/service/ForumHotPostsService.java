@@ -0,0 +1,84 @@
+package com.luminary.apieden.service;
+
+import com.luminary.apieden.client.ForumClient;
+import com.luminary.apieden.client.ForumSnapshotCache;
+import com.luminary.apieden.config.ForumCacheProperties;
+import com.luminary.apieden.config.ForumHotProperties;
+import com.luminary.apieden.model.client.ForumResponse;
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.response.FindForumResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Periodically ranks forum posts by engagement with time decay and keeps the best ones already hydrated,
+ * so {@code /forum/hot} is served from memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ForumHotPostsService {
+    private final ForumSnapshotCache forumSnapshotCache;
+    private final ForumCacheProperties cacheProperties;
+    private final ForumClient forumClient;
+    private final ForumService forumService;
+    private final ForumHotProperties hotProperties;
+    private volatile List<FindForumResponse> hotPosts = List.of();
+
+    public List<FindForumResponse> getHotPosts(int limit) {
+        if (limit < 1 || limit > hotProperties.getSize()) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'limit' precisa estar entre 1 e " + hotProperties.getSize());
+        }
+        List<FindForumResponse> current = hotPosts;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${forum.hot.refresh-interval:PT60S}")
+    public void refresh() {
+        try {
+            List<ForumResponse> posts = cacheProperties.isEnabled() ? forumSnapshotCache.posts() : forumClient.findAll();
+            LocalDateTime now = LocalDateTime.now();
+            hotPosts = List.copyOf(forumService.hydrate(rank(posts, now)));
+            log.info("[FORUM HOT] Ranked {} posts, kept {}", posts.size(), hotPosts.size());
+        } catch (RuntimeException failure) {
+            log.warn("[FORUM HOT] Ranking failed, keeping previous ranking: {}", failure.toString());
+        }
+    }
+
+    private List<ForumResponse> rank(List<ForumResponse> posts, LocalDateTime now) {
+        Comparator<ScoredPost> byScore = Comparator.comparingDouble(ScoredPost::score);
+        PriorityQueue<ScoredPost> best = new PriorityQueue<>(hotProperties.getSize() + 1, byScore);
+        for (ForumResponse post : posts) {
+            best.offer(new ScoredPost(post, score(post, now)));
+            if (best.size() > hotProperties.getSize()) {
+                best.poll();
+            }
+        }
+        List<ScoredPost> ranked = new ArrayList<>(best);
+        ranked.sort(byScore.reversed());
+        return ranked.stream().map(ScoredPost::post).toList();
+    }
+
+    private double score(ForumResponse post, LocalDateTime now) {
+        int engagers = post.getEngager() == null ? 0 : post.getEngager().size();
+        int comments = post.getComments() == null ? 0 : post.getComments().size();
+        double engagement = 1 + engagers + hotProperties.getCommentWeight() * comments;
+        double ageHours = post.getPostDate() == null
+                ? 0
+                : Math.max(0, Duration.between(post.getPostDate(), now).toMinutes() / 60.0);
+        return engagement / Math.pow(ageHours + 2, hotProperties.getGravity());
+    }
+
+    private record ScoredPost(ForumResponse post, double score) {
+    }
+}
@@ -1,75 +1,286 @@
 package com.luminary.apieden.service;
 
 import com.luminary.apieden.client.ForumClient;
+import com.luminary.apieden.client.ForumSnapshotCache;
+import com.luminary.apieden.client.HedgedForumClient;
+import com.luminary.apieden.config.ForumCacheProperties;
+import com.luminary.apieden.config.ForumFanOutProperties;
 import com.luminary.apieden.mapper.ForumMapper;
 import com.luminary.apieden.model.client.CommentResponse;
 import com.luminary.apieden.model.client.ForumResponse;
 import com.luminary.apieden.model.database.User;
 import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.jfr.ForumFetchEvent;
 import com.luminary.apieden.model.response.FindForumComment;
 import com.luminary.apieden.model.response.FindForumResponse;
+import com.luminary.apieden.model.response.ForumUserResponse;
 import com.luminary.apieden.repository.UserRepository;
+import com.luminary.apieden.util.Ids;
 import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ForumService {
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final ForumMapper forumMapper;
     private final ForumClient forumClient;
+    private final HedgedForumClient hedgedForumClient;
+    private final ForumSnapshotCache forumSnapshotCache;
+    private final ForumCacheProperties cacheProperties;
+    private final ForumFanOutProperties fanOutProperties;
+    private final ThreadPoolTaskExecutor forumExecutor;
 
     public List<FindForumResponse> find(String id) {
-        if (id == null) {
-            List<ForumResponse> forumList = forumClient.findAll();
-            return forumList.stream()
-                    .map(forum -> {
-                        FindForumResponse findForumResponse = forumMapper.toFindForumResponse(forum);
-                        User user = userRepository.findById(forum.getUserId())
-                                        .orElseThrow(() ->
-                                                new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Usuário não encontrado")
-                                        );
-                        findForumResponse.setUser(user);
-                        return findForumResponse;
-                    })
-                    .toList();
-        } else {
-            ForumResponse forumResponse;
+        ForumFetchEvent event = new ForumFetchEvent();
+        event.begin();
+        long deadline = System.nanoTime() + fanOutProperties.getDeadline().toNanos();
+        List<FindForumResponse> posts = id == null
+                ? hydratePosts(findAllPosts(deadline), deadline)
+                : List.of(fanOutProperties.isEnabled() ? findThreadConcurrently(id, deadline) : findThread(id));
+        commit(event, id, 0, posts.size());
+        return posts;
+    }
+
+    public Page<FindForumResponse> findPage(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'page' precisa ser positivo e 'size' estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        ForumFetchEvent event = new ForumFetchEvent();
+        event.begin();
+        long deadline = System.nanoTime() + fanOutProperties.getDeadline().toNanos();
+        List<ForumResponse> posts = findAllPosts(deadline);
+        int from = (int) Math.min((long) page * size, posts.size());
+        int to = Math.min(from + size, posts.size());
+        Page<FindForumResponse> result = new PageImpl<>(hydratePosts(posts.subList(from, to), deadline), PageRequest.of(page, size), posts.size());
+        commit(event, null, page, result.getNumberOfElements());
+        return result;
+    }
+
+    private void commit(ForumFetchEvent event, String authorId, int page, int posts) {
+        if (event.shouldCommit()) {
+            event.setAuthorId(authorId);
+            event.setPage(page);
+            event.setPosts(posts);
+            event.setFanOut(fanOutProperties.isEnabled());
+            event.commit();
+        }
+    }
+
+    public List<FindForumResponse> hydrate(List<ForumResponse> posts) {
+        return hydratePosts(posts, System.nanoTime() + fanOutProperties.getDeadline().toNanos());
+    }
+
+    private List<ForumResponse> findAllPosts(long deadline) {
+        if (cacheProperties.isEnabled()) {
+            return forumSnapshotCache.posts();
+        }
+        if (fanOutProperties.isEnabled()) {
+            return awaitForum(submit(forumClient::findAll), deadline);
+        }
+        return forumClient.findAll();
+    }
+
+    /**
+     * Posts whose author is no longer in the database are returned without {@code user}, like the ones whose
+     * lookup missed the fan-out deadline, instead of failing every listing (and the hot ranking) they appear in.
+     */
+    private List<FindForumResponse> hydratePosts(List<ForumResponse> posts, long deadline) {
+        Map<Long, ForumUserResponse> users = fanOutProperties.isEnabled()
+                ? findUsersConcurrently(authorIds(posts), deadline)
+                : findUsers(authorIds(posts));
+        return posts.stream()
+                .map(forum -> toFindForumResponse(forum, knownUser(users, forum.getUserId()), null))
+                .toList();
+    }
+
+    private FindForumResponse findThread(String id) {
+        ForumResponse forumResponse = findFirstPost(Ids.parse(id, "id"));
+        Set<Long> userIds = commenterIds(forumResponse);
+        userIds.add(forumResponse.getUserId());
+        Map<Long, ForumUserResponse> users = findUsers(userIds);
+        List<FindForumComment> comments = fetchingUsersOfComments(
+                forumResponse.getComments(), commentUserId -> requireUser(users, commentUserId));
+        return toFindForumResponse(forumResponse, requireUser(users, forumResponse.getUserId()), comments);
+    }
+
+    /**
+     * Runs the remote forum fetch and the user lookups on {@code forumExecutor} under one deadline. The author
+     * is looked up while the post is still being fetched. User lookups that miss the deadline are dropped and
+     * the affected post/comments are returned without {@code user}. Work that misses the deadline is cancelled:
+     * tasks still queued never run, and running ones are interrupted, though a JDBC query or HTTP call already
+     * sent keeps its thread until it returns.
+     */
+    private FindForumResponse findThreadConcurrently(String id, long deadline) {
+        long authorId = Ids.parse(id, "id");
+        Future<Map<Long, ForumUserResponse>> author = submit(() -> findUsers(Set.of(authorId)));
+        ForumResponse forumResponse = awaitForum(submit(() -> findFirstPost(authorId)), deadline);
+        Set<Long> commenterIds = commenterIds(forumResponse);
+        commenterIds.remove(authorId);
+        Map<Long, ForumUserResponse> users = new HashMap<>(findUsersConcurrently(commenterIds, deadline));
+        users.putAll(awaitUsers(List.of(author), deadline));
+        List<FindForumComment> comments = fetchingUsersOfComments(forumResponse.getComments(), users::get);
+        return toFindForumResponse(forumResponse, users.get(forumResponse.getUserId()), comments);
+    }
+
+    private ForumResponse findFirstPost(long authorId) {
+        try {
+            return hedgedForumClient.findById(String.valueOf(authorId))
+                    .stream().findFirst()
+                    .orElseThrow(() -> new HttpError(HttpStatus.BAD_REQUEST, "Usuário não fez nenhum post."));
+        } catch (FeignException.BadRequest feign) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "Usuário não fez nenhum post.");
+        } catch (CallNotPermittedException | BulkheadFullException | RetryableException
+                 | FeignException.FeignServerException unavailable) {
+            log.warn("[FORUM] Forum API unavailable ({}), falling back to the cached snapshot",
+                    unavailable.getClass().getSimpleName());
+            return findFirstPostInSnapshot(authorId);
+        }
+    }
+
+    private ForumResponse findFirstPostInSnapshot(long userId) {
+        return forumSnapshotCache.peek()
+                .flatMap(snapshot -> snapshot.posts().stream()
+                        .filter(post -> post.getUserId() == userId)
+                        .findFirst())
+                .orElseThrow(() -> new HttpError(HttpStatus.SERVICE_UNAVAILABLE, "Fórum indisponível no momento."));
+    }
+
+    private Set<Long> authorIds(List<ForumResponse> forumList) {
+        return forumList.stream()
+                .map(ForumResponse::getUserId)
+                .collect(Collectors.toSet());
+    }
+
+    private Set<Long> commenterIds(ForumResponse forumResponse) {
+        Set<Long> userIds = new HashSet<>();
+        if (forumResponse.getComments() != null) {
+            forumResponse.getComments().forEach(comment -> userIds.add(comment.getUserId()));
+        }
+        return userIds;
+    }
+
+    private Map<Long, ForumUserResponse> findUsers(Set<Long> userIds) {
+        log.info("[FORUM] Fetching {} distinct users", userIds.size());
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, forumMapper::toForumUserResponse, (first, second) -> first));
+    }
+
+    private Map<Long, ForumUserResponse> findUsersConcurrently(Set<Long> userIds, long deadline) {
+        List<Long> ids = new ArrayList<>(userIds);
+        List<Future<Map<Long, ForumUserResponse>>> batches = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += fanOutProperties.getBatchSize()) {
+            Set<Long> batch = Set.copyOf(ids.subList(start, Math.min(ids.size(), start + fanOutProperties.getBatchSize())));
+            batches.add(submit(() -> findUsers(batch)));
+        }
+        return awaitUsers(batches, deadline);
+    }
+
+    /** Submitted rather than run through {@link CompletableFuture}, whose {@code cancel} does not interrupt. */
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return forumExecutor.submit(task);
+        } catch (TaskRejectedException rejected) {
+            return CompletableFuture.failedFuture(rejected);
+        }
+    }
+
+    private <T> T awaitForum(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException timeout) {
+            future.cancel(true);
+            log.error("[FORUM] Forum API did not answer before the deadline");
+            throw new HttpError(HttpStatus.GATEWAY_TIMEOUT, "Fórum indisponível no momento, tente novamente");
+        } catch (ExecutionException execution) {
+            if (execution.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Erro ao buscar o fórum");
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw new HttpError(HttpStatus.SERVICE_UNAVAILABLE, "Busca do fórum interrompida");
+        }
+    }
+
+    private Map<Long, ForumUserResponse> awaitUsers(List<Future<Map<Long, ForumUserResponse>>> batches, long deadline) {
+        Map<Long, ForumUserResponse> users = new HashMap<>();
+        for (Future<Map<Long, ForumUserResponse>> batch : batches) {
             try {
-                forumResponse = forumClient.findById(id)
-                        .stream().findFirst()
-                        .orElse(null);
-            } catch (FeignException.BadRequest feign) {
-                throw new HttpError(HttpStatus.BAD_REQUEST, "Usuário não fez nenhum post.");
+                users.putAll(batch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException | ExecutionException failure) {
+                batch.cancel(true);
+                log.warn("[FORUM] User batch dropped, returning partial result: {}", failure.toString());
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                break;
             }
-            User user = userRepository.findById(forumResponse.getUserId())
-                    .orElseThrow(() -> new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Usuário não encontrado"));
-            List<FindForumComment> comments = fetchingUsersOfComments(forumResponse.getComments());
-            FindForumResponse findForumResponse = forumMapper.toFindForumResponse(forumResponse);
-            findForumResponse.setUser(user);
-            findForumResponse.setComments(comments);
-            return List.of(findForumResponse);
         }
+        return users;
+    }
+
+    private ForumUserResponse knownUser(Map<Long, ForumUserResponse> users, long userId) {
+        ForumUserResponse user = users.get(userId);
+        if (user == null) {
+            log.warn("[FORUM] User {} not found, returning their post without author", userId);
+        }
+        return user;
     }
 
-    private List<FindForumComment> fetchingUsersOfComments(List<CommentResponse> comments) {
+    private ForumUserResponse requireUser(Map<Long, ForumUserResponse> users, long userId) {
+        ForumUserResponse user = users.get(userId);
+        if (user == null) {
+            log.error("[FORUM] User {} not found", userId);
+            throw new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Usuário não encontrado");
+        }
+        return user;
+    }
+
+    private FindForumResponse toFindForumResponse(ForumResponse forum, ForumUserResponse user, List<FindForumComment> comments) {
+        FindForumResponse findForumResponse = forumMapper.toFindForumResponse(forum);
+        findForumResponse.setUser(user);
+        findForumResponse.setComments(comments);
+        return findForumResponse;
+    }
+
+    private List<FindForumComment> fetchingUsersOfComments(List<CommentResponse> comments,
+                                                           Function<Long, ForumUserResponse> users) {
         if(comments != null) {
             return comments.stream()
-                    .map(comment -> {
-                        User user = userRepository.findById(comment.getUserId())
-                                .orElseThrow(() -> new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Usuário não encontrado"));
-                        log.info("[FORUM] User {}", user);
-                        return FindForumComment.builder()
-                                .user(user)
-                                .content(comment.getContent())
-                                .build();
-                    }).toList();
+                    .map(comment -> FindForumComment.builder()
+                            .user(users.apply(comment.getUserId()))
+                            .content(comment.getContent())
+                            .build())
+                    .toList();
         }
         return List.of();
     }
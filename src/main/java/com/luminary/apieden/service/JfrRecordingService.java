@@ -0,0 +1,111 @@
+package com.luminary.apieden.service;
+
+import com.luminary.apieden.config.JfrProperties;
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.response.JfrRecordingResponse;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Manages one JFR recording at a time, started on demand from {@code /admin/jfr}. Each recording is bounded in
+ * duration and size by {@link JfrProperties}, and stays available for dumping until the next one starts. The
+ * business events in {@code model.jfr} are recorded alongside the JDK ones, so CPU samples and allocations can
+ * be lined up with checkouts, feed queries, forum fetches and outbound calls.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JfrRecordingService {
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final JfrProperties properties;
+    private Recording recording;
+    private String settings;
+
+    public synchronized JfrRecordingResponse start(Duration duration, String requestedSettings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new HttpError(HttpStatus.CONFLICT, "Já existe uma gravação JFR em andamento");
+        }
+        String chosen = requestedSettings != null ? requestedSettings : properties.getSettings();
+        if (!SETTINGS.contains(chosen)) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'settings' precisa ser 'default' ou 'profile'");
+        }
+        Duration requested = duration != null ? duration : properties.getDefaultDuration();
+        if (requested.isNegative() || requested.isZero()) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'duration' precisa ser positiva");
+        }
+        Recording next;
+        try {
+            next = new Recording(Configuration.getConfiguration(chosen));
+        } catch (IOException | ParseException unavailable) {
+            log.error("[JFR] Could not load the '{}' settings", chosen, unavailable);
+            throw new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Não foi possível iniciar a gravação JFR");
+        }
+        next.setName("apieden-admin");
+        next.setToDisk(true);
+        next.setMaxSize(properties.getMaxSize().toBytes());
+        next.setDuration(requested.compareTo(properties.getMaxDuration()) > 0 ? properties.getMaxDuration() : requested);
+        close();
+        next.start();
+        recording = next;
+        settings = chosen;
+        log.info("[JFR] Recording started with '{}' settings for {}", chosen, next.getDuration());
+        return status();
+    }
+
+    public synchronized JfrRecordingResponse stop() {
+        Recording current = current();
+        if (current.getState() == RecordingState.RUNNING) {
+            current.stop();
+            log.info("[JFR] Recording stopped, {} bytes", current.getSize());
+        }
+        return status();
+    }
+
+    public synchronized JfrRecordingResponse status() {
+        Recording current = current();
+        return new JfrRecordingResponse(current.getState().name(), settings, current.getStartTime(),
+                current.getDuration(), current.getSize());
+    }
+
+    /** Copies what was recorded so far to a temporary file, which the caller deletes. */
+    public synchronized Path dump() {
+        Recording current = current();
+        try {
+            Path file = Files.createTempFile("apieden-", ".jfr");
+            current.dump(file);
+            return file;
+        } catch (IOException failure) {
+            log.error("[JFR] Could not dump the recording", failure);
+            throw new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Não foi possível exportar a gravação JFR");
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Recording current() {
+        if (recording == null) {
+            throw new HttpError(HttpStatus.NOT_FOUND, "Nenhuma gravação JFR foi iniciada");
+        }
+        return recording;
+    }
+}
@@ -0,0 +1,160 @@
+package com.luminary.apieden.service;
+
+import com.luminary.apieden.model.database.User;
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.projection.UserRatingProjection;
+import com.luminary.apieden.model.response.LeaderboardEntryResponse;
+import com.luminary.apieden.repository.UserRepository;
+import com.luminary.apieden.util.OrderStatisticTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory ranking of rated sellers by (rating, rating count), best first. Rebuilt from the database at
+ * startup and kept up to date by {@link RatingService}. Changes made inside a transaction are applied once it
+ * commits, so a rolled back rating never shows up in the ranking.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+    public static final int MAX_LIMIT = 100;
+
+    private static final Comparator<Entry> BEST_FIRST = Comparator
+            .comparing(Entry::rating, Comparator.reverseOrder())
+            .thenComparing(Entry::ratingCount, Comparator.reverseOrder())
+            .thenComparing(Entry::userId);
+
+    private final UserRepository userRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OrderStatisticTree<Entry> ranking = new OrderStatisticTree<>(BEST_FIRST);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<UserRatingProjection> ratedUsers = userRepository.findRatedUsers();
+        lock.writeLock().lock();
+        try {
+            ranking.clear();
+            entries.clear();
+            ratedUsers.forEach(user -> put(new Entry(user.getId(), user.getRating(), user.getRatingCount())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[LEADERBOARD] Rebuilt with {} sellers", ratedUsers.size());
+    }
+
+    public void update(long userId, float rating, long ratingCount) {
+        afterCommit(() -> apply(userId, rating, ratingCount));
+    }
+
+    public void delete(long userId) {
+        afterCommit(() -> discard(userId));
+    }
+
+    public List<LeaderboardEntryResponse> top(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'limit' precisa estar entre 1 e " + MAX_LIMIT);
+        }
+        List<Entry> best;
+        lock.readLock().lock();
+        try {
+            best = ranking.first(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        Map<Long, String> userNames = userRepository.findAllById(best.stream().map(Entry::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, User::getUserName));
+        return IntStream.range(0, best.size())
+                .mapToObj(position -> toResponse(position + 1, best.get(position), userNames::get))
+                .toList();
+    }
+
+    public LeaderboardEntryResponse rankOf(String userId) {
+        long id = Long.parseLong(userId);
+        Entry entry;
+        int position;
+        lock.readLock().lock();
+        try {
+            entry = entries.get(id);
+            if (entry == null) {
+                throw new HttpError(HttpStatus.BAD_REQUEST, "Usuário ainda não foi avaliado");
+            }
+            position = ranking.rank(entry) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+        String userName = userRepository.findById(id).map(User::getUserName).orElse(null);
+        return toResponse(position, entry, ignored -> userName);
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.userId(), entry);
+        ranking.add(entry);
+    }
+
+    private void remove(long userId) {
+        Entry previous = entries.remove(userId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    private void apply(long userId, float rating, long ratingCount) {
+        lock.writeLock().lock();
+        try {
+            remove(userId);
+            if (ratingCount > 0) {
+                put(new Entry(userId, rating, ratingCount));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void discard(long userId) {
+        lock.writeLock().lock();
+        try {
+            remove(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private LeaderboardEntryResponse toResponse(long rank, Entry entry, Function<Long, String> userNames) {
+        return new LeaderboardEntryResponse(rank, entry.userId(), userNames.apply(entry.userId()), entry.rating(), entry.ratingCount());
+    }
+
+    private record Entry(long userId, float rating, long ratingCount) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.luminary.apieden.service;
 
 import com.luminary.apieden.client.Neo4jClient;
+import com.luminary.apieden.client.Neo4jOutbox;
 import com.luminary.apieden.mapper.OrderMapper;
 import com.luminary.apieden.model.client.CreateRelationshipRequest;
 import com.luminary.apieden.model.database.Cart;
@@ -11,8 +12,10 @@ import com.luminary.apieden.model.database.PaymentType;
 import com.luminary.apieden.model.database.Product;
 import com.luminary.apieden.model.database.StatusOrder;
 import com.luminary.apieden.model.database.User;
+import com.luminary.apieden.model.enums.ProductAvailability;
 import com.luminary.apieden.model.enums.StatusOrderEnum;
 import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.jfr.CheckoutEvent;
 import com.luminary.apieden.model.request.RegisterOrderRequest;
 import com.luminary.apieden.model.response.FindAllOrderResponse;
 import com.luminary.apieden.model.response.OrderResponse;
@@ -28,6 +31,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -46,9 +50,37 @@ public class OrderService {
     private final UserRepository userRepository;
     private final OrderMapper orderMapper;
     private final Neo4jClient neo4jClient;
+    private final Neo4jOutbox neo4jOutbox;
+    private final SellerStatsService sellerStatsService;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * The order is written in one transaction and the Neo4j relationships are only sent once it committed, so the
+     * pooled connection is never held while waiting on the graph API.
+     */
     public OrderResponse registerOrder(RegisterOrderRequest request) {
+        CheckoutEvent event = new CheckoutEvent();
+        event.begin();
+        event.setCartId(request.getCartId());
+        try {
+            Checkout checkout = transactionTemplate.execute(status -> checkout(request, event));
+            createRelationships(checkout.relationships());
+            event.setOutcome("OK");
+            return checkout.response();
+        } catch (HttpError error) {
+            event.setOutcome(String.valueOf(error.getHttpStatus().value()));
+            throw error;
+        } catch (RuntimeException failure) {
+            event.setOutcome(failure.getClass().getSimpleName());
+            throw failure;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private Checkout checkout(RegisterOrderRequest request, CheckoutEvent event) {
         List<CreateRelationshipRequest> productsList = new ArrayList<>();
+        List<Product> purchasedProducts = new ArrayList<>();
         PaymentType paymentType = paymentTypeRepository.findById(request.getPaymentTypeId())
                 .orElseThrow(() -> new HttpError(HttpStatus.BAD_REQUEST, "'Tipo de pagamento' não encontrado"));
         StatusOrder statusOrder = StatusOrder.builder()
@@ -62,7 +94,11 @@ public class OrderService {
                 .orElseThrow(() -> new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Usuário não encontrado"));
         Order order = orderMapper.toOrder(request, StatusOrderEnum.ENTREGUE.getId(), LocalDate.now(), cart.getUserId(), cart.getTotalSale());
         orderRepository.save(order);
+        event.setUserId(user.getId());
+        event.setOrderId(order.getId());
+        event.setTotalSale(cart.getTotalSale());
         List<CartItem> cartItemList = cartItemRepository.findCartItemsByCartId(request.getCartId());
+        event.setItems(cartItemList.size());
         if (!cartItemList.isEmpty()) {
             cartItemList
                     .forEach(cartItem -> {
@@ -71,6 +107,11 @@ public class OrderService {
                                     log.error("Product Id {} not found", cartItem.getProductId());
                                     return new HttpError(HttpStatus.INTERNAL_SERVER_ERROR, "Produto não encontrado para compra, contate o suporte");
                                 });
+                        if (productRepository.compareAndSetAvailability(
+                                product.getId(), ProductAvailability.AVAILABLE, ProductAvailability.SOLD) == 0) {
+                            log.warn("[ORDER SERVICE] Product {} is no longer available", product.getId());
+                            throw new HttpError(HttpStatus.CONFLICT, "Produto '" + product.getTitle() + "' não está mais disponível");
+                        }
                         CreateRelationshipRequest createRelationshipRequest = CreateRelationshipRequest.builder()
                                 .productId(product.getId())
                                 .purchaserId(user.getId())
@@ -78,6 +119,7 @@ public class OrderService {
                                 .build();
                         log.info("[ORDER SERVICE] Create Relation Request: {}", createRelationshipRequest);
                         productsList.add(createRelationshipRequest);
+                        purchasedProducts.add(product);
                         userRepository.removeFavoriteProduct(product.getId());
                         OrderItem orderItem = OrderItem.builder()
                                 .orderId(order.getId())
@@ -86,18 +128,28 @@ public class OrderService {
                         cartItemRepository.deleteCartItemsByProductId(cartItem.getProductId());
                         orderItemRepository.save(orderItem);
                     });
-            try {
-                log.info("[ORDER SERVICE] Calling neo4j api");
-                neo4jClient.createRelationship(productsList);
-            } catch (FeignException.BadRequest | FeignException.InternalServerError exceptionRequest) {
-                log.error("[ORDER SERVICE] An error occurred while trying to call Neo4j API: {}", exceptionRequest.status());
-            }
+            sellerStatsService.registerSale(user.getId(), order.getOrderDate(), purchasedProducts);
             cartRepository.totalSaleCalc((int) request.getCartId());
-            return orderMapper.toOrderResponse(order, statusOrder, paymentType);
+            return new Checkout(orderMapper.toOrderResponse(order, statusOrder, paymentType), productsList);
         }
         throw new HttpError(HttpStatus.BAD_REQUEST, "Compra não pôde ser finalizada, carrinho vazio");
     }
 
+    private void createRelationships(List<CreateRelationshipRequest> productsList) {
+        try {
+            log.info("[ORDER SERVICE] Calling neo4j api");
+            neo4jClient.createRelationship(productsList);
+        } catch (FeignException.BadRequest exceptionRequest) {
+            log.error("[ORDER SERVICE] An error occurred while trying to call Neo4j API: {}", exceptionRequest.status());
+        } catch (RuntimeException unavailable) {
+            log.warn("[ORDER SERVICE] Neo4j unavailable, deferring relationships: {}", unavailable.getClass().getSimpleName());
+            neo4jOutbox.createRelationship(productsList);
+        }
+    }
+
+    private record Checkout(OrderResponse response, List<CreateRelationshipRequest> relationships) {
+    }
+
     public FindAllOrderResponse getAll(String userId) {
         FindAllOrderResponse findAllOrderResponse = new FindAllOrderResponse();
         List<Order> orderList = orderRepository.findOrderByUserId(Long.parseLong(userId));
@@ -4,7 +4,9 @@ import com.luminary.apieden.mapper.ProductMapper;
 import com.luminary.apieden.model.database.OrderItem;
 import com.luminary.apieden.model.database.Product;
 import com.luminary.apieden.model.database.User;
+import com.luminary.apieden.model.enums.ProductAvailability;
 import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.jfr.FeedQueryEvent;
 import com.luminary.apieden.model.request.ProductRequest;
 import com.luminary.apieden.repository.ConditionTypeRepository;
 import com.luminary.apieden.repository.OrderItemRepository;
@@ -12,9 +14,7 @@ import com.luminary.apieden.repository.ProductRepository;
 import com.luminary.apieden.repository.UsageTimeRepository;
 import com.luminary.apieden.repository.UserRepository;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -34,13 +35,16 @@ public class ProductService {
     private final UserRepository userRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductMapper productMapper;
+    private final Validator validator;
 
     public List<Product> getPremiumProducts(String userId) {
-        return productRepository.findProductsByUserIdNotAndPremiumIsTrue(Long.parseLong(userId));
+        return feed("premium", userId, null,
+                () -> productRepository.findAvailableProductsByUserIdNotAndPremium(Long.parseLong(userId), true));
     }
 
     public List<Product> getNotPremiumProducts(String userId) {
-        return productRepository.findProductsByUserIdNotAndPremiumIsFalse(Long.parseLong(userId));
+        return feed("regular", userId, null,
+                () -> productRepository.findAvailableProductsByUserIdNotAndPremium(Long.parseLong(userId), false));
     }
 
     public List<Product> findProductByUserId(String userId) {
@@ -48,7 +52,22 @@ public class ProductService {
     }
 
     public List<Product> findProductByTitleLike(String userId, String title) {
-        return productRepository.findProductsByUserIdNotAndTitleLikeIgnoreCase(Long.parseLong(userId), title);
+        return feed("title", userId, title,
+                () -> productRepository.findAvailableProductsByUserIdNotAndTitleLike(Long.parseLong(userId), title));
+    }
+
+    private List<Product> feed(String feed, String userId, String title, Supplier<List<Product>> query) {
+        FeedQueryEvent event = new FeedQueryEvent();
+        event.begin();
+        List<Product> products = query.get();
+        if (event.shouldCommit()) {
+            event.setFeed(feed);
+            event.setUserId(Long.parseLong(userId));
+            event.setTitle(title);
+            event.setResults(products.size());
+            event.commit();
+        }
+        return products;
     }
 
     public Product findProductById(String productId) {
@@ -75,6 +94,10 @@ public class ProductService {
         log.info("Entering in partialUpdate method.");
         Product product = productRepository.findById(Long.valueOf(id))
                 .orElseThrow(() -> new HttpError(HttpStatus.BAD_REQUEST, "Produto não encontrado"));
+        if (product.getAvailability() != ProductAvailability.AVAILABLE) {
+            log.warn("[PRODUCT] Product {} is {} and can no longer be updated", id, product.getAvailability());
+            throw new HttpError(HttpStatus.CONFLICT, "Produto não está mais disponível");
+        }
         boolean verifyVariable = false;
         try {
             if (request.containsKey("usageTimeId")) {
@@ -134,9 +157,6 @@ public class ProductService {
         }
 
         log.info("[PRODUCT] Starting attributes validation.");
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-
         Set<ConstraintViolation<Product>> violations = validator.validate(product);
         if (!violations.isEmpty()) {
             StringBuilder errorMessage = new StringBuilder("Erros de validação:");
@@ -148,7 +168,11 @@ public class ProductService {
 
         log.info("[PRODUCT] Attributes validated");
         log.info("[PRODUCT] Saving product in database.");
-        productRepository.save(product);
+        // Guarded on AVAILABLE so a checkout that sold the product meanwhile is never overwritten.
+        if (productRepository.updateDetailsIfAvailable(product) == 0) {
+            log.warn("[PRODUCT] Product {} was sold or removed while being updated", id);
+            throw new HttpError(HttpStatus.CONFLICT, "Produto não está mais disponível");
+        }
         log.info("[PRODUCT] Product saved in database.");
     }
 
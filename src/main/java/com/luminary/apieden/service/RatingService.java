@@ -2,11 +2,13 @@ package com.luminary.apieden.service;
 
 import com.luminary.apieden.mapper.RatingMapper;
 import com.luminary.apieden.model.database.Rating;
+import com.luminary.apieden.model.database.User;
 import com.luminary.apieden.model.exception.HttpError;
 import com.luminary.apieden.model.request.RatingRequest;
 import com.luminary.apieden.model.request.UpdateRatingRequest;
 import com.luminary.apieden.repository.RatingRepository;
 import com.luminary.apieden.repository.UserRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -21,6 +23,7 @@ public class RatingService {
     private final UserRepository userRepository;
     private final RatingRepository ratingRepository;
     private final RatingMapper ratingMapper;
+    private final LeaderboardService leaderboardService;
 
     public Rating getRating(String userAppraiserId,
                             String userAppraisedId) {
@@ -30,10 +33,12 @@ public class RatingService {
                     .orElseThrow(() -> new HttpError(HttpStatus.BAD_REQUEST, "Nenhum 'rating' existente"));
     }
 
+    @Transactional
     public Rating register(RatingRequest request) {
         log.info("[Rating Service] Starting param validations");
         verifyRatingRequest(request);
         log.info("[Rating Service] Parameters validated");
+        User appraised = lockAppraised(request.getUserAppraisedId());
         Optional<Rating> ratingOptional = ratingRepository.findRatingByUserAppraiserIdAndUserAppraisedId(
                 request.getUserAppraiserId(),
                 request.getUserAppraisedId()
@@ -44,37 +49,50 @@ public class RatingService {
         Rating rating = ratingMapper.toRating(request);
         ratingRepository.save(rating);
         log.info("[Rating Service] Saved user in database");
-        userRepository.userRating((int) rating.getUserAppraisedId());
-        log.info("[Rating Service] Called procedure");
+        appraised.addRating(rating.getRating());
+        userRepository.updateRatingAggregates(appraised);
+        log.info("[Rating Service] Applied rating to user aggregates");
+        leaderboardService.update(appraised.getId(), appraised.getRating(), appraised.getRatingCount());
         return rating;
     }
 
+    @Transactional
     public Rating update(
             String userAppraiserId,
             String userAppraisedId,
             UpdateRatingRequest request) {
         log.info("[Rating Service] update rating starting");
-        if (request.getRating() < 0.5 && request.getRating() > 5) {
+        if (request.getRating() < 0.5 || request.getRating() > 5) {
             log.error("[Rating Service] Rating is invalid {}", request.getRating());
-            throw new HttpError(HttpStatus.BAD_REQUEST, "'rating' não pode ser menor que 0.5");
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'rating' precisa estar entre 0.5 e 5");
         }
         if (userAppraiserId.equals(userAppraisedId)) {
             throw new HttpError(HttpStatus.BAD_REQUEST, "Avaliador não pode se avaliar");
         }
+        // Lock before reading the rating so oldRating is the value the aggregates were built from.
+        User appraised = lockAppraised(Long.parseLong(userAppraisedId));
         Rating rating = ratingRepository.findRatingByUserAppraiserIdAndUserAppraisedId(
                     Long.parseLong(userAppraiserId),
                     Long.parseLong(userAppraisedId))
                 .orElseThrow(() -> new HttpError(HttpStatus.BAD_REQUEST, "Avaliação não encontrada"));
         log.info("[Rating Service] Rating founded");
+        float oldRating = rating.getRating();
         rating.setRating(request.getRating());
         log.info("[Rating Service] Setting rating");
         ratingRepository.save(rating);
         log.info("[Rating Service] Saved in database");
-        userRepository.userRating((int) rating.getUserAppraisedId());
-        log.info("[Rating Service] Procedure called");
+        appraised.replaceRating(oldRating, rating.getRating());
+        userRepository.updateRatingAggregates(appraised);
+        log.info("[Rating Service] Applied rating to user aggregates");
+        leaderboardService.update(appraised.getId(), appraised.getRating(), appraised.getRatingCount());
         return rating;
     }
 
+    private User lockAppraised(long userAppraisedId) {
+        return userRepository.findByIdForUpdate(userAppraisedId)
+                .orElseThrow(() -> new HttpError(HttpStatus.BAD_REQUEST, "Usuário avaliado não encontrado"));
+    }
+
     public void verifyRatingRequest(RatingRequest request) {
         if (
                 request.getUserAppraiserId() == 0
@@ -0,0 +1,120 @@
+package com.luminary.apieden.service;
+
+import com.luminary.apieden.client.ForumSnapshotCache;
+import com.luminary.apieden.client.ReactiveForumClient;
+import com.luminary.apieden.config.ForumCacheProperties;
+import com.luminary.apieden.mapper.ForumMapper;
+import com.luminary.apieden.model.client.CommentResponse;
+import com.luminary.apieden.model.client.ForumResponse;
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.response.FindForumComment;
+import com.luminary.apieden.model.response.FindForumResponse;
+import com.luminary.apieden.model.response.ForumUserResponse;
+import com.luminary.apieden.repository.reactive.ReactiveUserRepository;
+import com.luminary.apieden.util.Ids;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Non-blocking version of {@link ForumService}: posts come from the forum snapshot when one is loaded, else
+ * from {@link ReactiveForumClient}; authors and commenters are resolved with one R2DBC query. Users missing
+ * from the database are left out instead of failing the request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveForumService {
+    private final ReactiveForumClient reactiveForumClient;
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final ForumSnapshotCache forumSnapshotCache;
+    private final ForumCacheProperties cacheProperties;
+    private final ForumMapper forumMapper;
+
+    public Mono<Page<FindForumResponse>> findPage(int page, int size) {
+        if (page < 0 || size < 1 || size > ForumService.MAX_PAGE_SIZE) {
+            return Mono.error(new HttpError(HttpStatus.BAD_REQUEST,
+                    "'page' precisa ser positivo e 'size' estar entre 1 e " + ForumService.MAX_PAGE_SIZE));
+        }
+        return findAllPosts().flatMap(posts -> {
+            int from = (int) Math.min((long) page * size, posts.size());
+            int to = Math.min(from + size, posts.size());
+            return hydrate(posts.subList(from, to))
+                    .map(content -> new PageImpl<>(content, PageRequest.of(page, size), posts.size()));
+        });
+    }
+
+    public Mono<List<FindForumResponse>> findAll() {
+        return findAllPosts().flatMap(this::hydrate);
+    }
+
+    public Mono<FindForumResponse> findThread(String userId) {
+        return Mono.fromCallable(() -> Ids.parse(userId, "id"))
+                .flatMapMany(authorId -> reactiveForumClient.findById(String.valueOf(authorId)))
+                .next()
+                .onErrorMap(WebClientResponseException.BadRequest.class,
+                        badRequest -> new HttpError(HttpStatus.BAD_REQUEST, "Usuário não fez nenhum post."))
+                .switchIfEmpty(Mono.error(() -> new HttpError(HttpStatus.BAD_REQUEST, "Usuário não fez nenhum post.")))
+                .flatMap(post -> {
+                    Set<Long> userIds = new HashSet<>();
+                    userIds.add(post.getUserId());
+                    if (post.getComments() != null) {
+                        post.getComments().forEach(comment -> userIds.add(comment.getUserId()));
+                    }
+                    return findUsers(userIds).map(users -> toFindForumResponse(post, users, comments(post.getComments(), users)));
+                });
+    }
+
+    private Mono<List<ForumResponse>> findAllPosts() {
+        if (cacheProperties.isEnabled() && forumSnapshotCache.peek().isPresent()) {
+            return Mono.just(forumSnapshotCache.snapshot().posts());
+        }
+        return reactiveForumClient.findAll().collectList();
+    }
+
+    private Mono<List<FindForumResponse>> hydrate(List<ForumResponse> posts) {
+        Set<Long> authorIds = new HashSet<>();
+        posts.forEach(post -> authorIds.add(post.getUserId()));
+        return findUsers(authorIds).map(users -> posts.stream()
+                .map(post -> toFindForumResponse(post, users, null))
+                .toList());
+    }
+
+    private Mono<Map<Long, ForumUserResponse>> findUsers(Set<Long> userIds) {
+        log.info("[FORUM] Fetching {} distinct users", userIds.size());
+        return reactiveUserRepository.findSummariesById(userIds).collectMap(ForumUserResponse::getId);
+    }
+
+    private FindForumResponse toFindForumResponse(ForumResponse post, Map<Long, ForumUserResponse> users,
+                                                  List<FindForumComment> comments) {
+        FindForumResponse findForumResponse = forumMapper.toFindForumResponse(post);
+        findForumResponse.setUser(users.get(post.getUserId()));
+        findForumResponse.setComments(comments);
+        return findForumResponse;
+    }
+
+    private List<FindForumComment> comments(List<CommentResponse> comments, Map<Long, ForumUserResponse> users) {
+        if (comments == null) {
+            return List.of();
+        }
+        return comments.stream()
+                .map(comment -> FindForumComment.builder()
+                        .user(users.get(comment.getUserId()))
+                        .content(comment.getContent())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.luminary.apieden.service;
+
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.response.ProductSummaryResponse;
+import com.luminary.apieden.repository.reactive.ReactiveProductRepository;
+import com.luminary.apieden.util.Ids;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveProductService {
+    private final ReactiveProductRepository reactiveProductRepository;
+
+    public Flux<ProductSummaryResponse> getPremiumProducts(String userId) {
+        return reactiveProductRepository.findAvailableProductsByUserIdNotAndPremium(Ids.parse(userId, "userId"), true);
+    }
+
+    public Flux<ProductSummaryResponse> getNotPremiumProducts(String userId) {
+        return reactiveProductRepository.findAvailableProductsByUserIdNotAndPremium(Ids.parse(userId, "userId"), false);
+    }
+
+    public Flux<ProductSummaryResponse> findProductByUserId(String userId) {
+        return reactiveProductRepository.findByUserId(Ids.parse(userId, "userId"));
+    }
+
+    public Flux<ProductSummaryResponse> findProductByTitleLike(String userId, String title) {
+        return reactiveProductRepository.findAvailableProductsByUserIdNotAndTitleLike(Ids.parse(userId, "userId"), title);
+    }
+
+    public Mono<ProductSummaryResponse> findProductById(String productId) {
+        return reactiveProductRepository.findById(Ids.parse(productId, "productId"))
+                .switchIfEmpty(Mono.error(() -> new HttpError(HttpStatus.BAD_REQUEST, "Produto não encontrado")));
+    }
+}
@@ -0,0 +1,74 @@
+package com.luminary.apieden.service;
+
+import com.luminary.apieden.mapper.SellerStatsMapper;
+import com.luminary.apieden.model.database.Product;
+import com.luminary.apieden.model.database.SellerSalesDaily;
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.response.SellerDailyStatsResponse;
+import com.luminary.apieden.model.response.SellerStatsResponse;
+import com.luminary.apieden.repository.SellerSalesDailyRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SellerStatsService {
+    private static final int DEFAULT_PERIOD_DAYS = 30;
+
+    private final SellerSalesDailyRepository sellerSalesDailyRepository;
+    private final SellerStatsMapper sellerStatsMapper;
+
+    /**
+     * Folds the products of one checkout into the daily aggregates of each seller. Must run inside the
+     * checkout transaction so the rollup commits or rolls back together with the order.
+     */
+    public void registerSale(long buyerId, LocalDate saleDate, List<Product> products) {
+        Map<Long, List<Product>> productsBySeller = products.stream()
+                .collect(Collectors.groupingBy(product -> product.getUser().getId()));
+        productsBySeller.forEach((sellerId, sellerProducts) -> {
+            int newBuyers = sellerSalesDailyRepository.registerBuyer(sellerId, saleDate, buyerId);
+            double revenue = sellerProducts.stream().mapToDouble(Product::getPrice).sum();
+            sellerSalesDailyRepository.accumulate(sellerId, saleDate, sellerProducts.size(), revenue, newBuyers);
+            log.info("[SELLER STATS] Seller {} accumulated {} units on {}", sellerId, sellerProducts.size(), saleDate);
+        });
+    }
+
+    public SellerStatsResponse getStats(String sellerId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_PERIOD_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'from' não pode ser depois de 'to'");
+        }
+        long id = Long.parseLong(sellerId);
+        List<SellerSalesDaily> days = sellerSalesDailyRepository.findBySellerIdAndSaleDateBetweenOrderBySaleDate(id, start, end);
+        List<SellerDailyStatsResponse> dailyStats = days.stream()
+                .map(sellerStatsMapper::toSellerDailyStatsResponse)
+                .toList();
+        long units = days.stream().mapToLong(SellerSalesDaily::getUnits).sum();
+        double grossRevenue = days.stream().mapToDouble(SellerSalesDaily::getGrossRevenue).sum();
+        long distinctBuyers = days.isEmpty() ? 0 : sellerSalesDailyRepository.countDistinctBuyers(id, start, end);
+        return new SellerStatsResponse(id, start, end, units, grossRevenue, distinctBuyers, dailyStats);
+    }
+
+    /**
+     * Rebuilds every aggregate from the order history. Revenue uses the current product price, since
+     * orders_itens does not keep the price paid.
+     */
+    @Transactional
+    public void backfill() {
+        log.info("[SELLER STATS] Rebuilding seller aggregates from order history");
+        sellerSalesDailyRepository.truncate();
+        int buyers = sellerSalesDailyRepository.backfillBuyers();
+        int days = sellerSalesDailyRepository.backfillDaily();
+        log.info("[SELLER STATS] Backfill finished: {} seller days, {} seller-day buyers", days, buyers);
+    }
+}
@@ -1,6 +1,7 @@
 package com.luminary.apieden.service;
 
 import com.luminary.apieden.client.Neo4jClient;
+import com.luminary.apieden.client.Neo4jOutbox;
 import com.luminary.apieden.mapper.UserMapper;
 import com.luminary.apieden.model.client.CreateUserRequest;
 import com.luminary.apieden.model.database.Cart;
@@ -18,14 +19,13 @@ import feign.FeignException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.crypto.SecretKey;
 import java.util.ArrayList;
@@ -46,24 +46,33 @@ public class UserService {
     private final CartRepository cartRepository;
     private final UserMapper userMapper;
     private final Neo4jClient neo4jClient;
+    private final Neo4jOutbox neo4jOutbox;
+    private final LeaderboardService leaderboardService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
 
     public UserResponse register(User user) throws HttpError {
         log.info("Checking unique fields");
         checkUnique(user);
         log.info("None unique field repeated");
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        userRepository.save(user);
-        Cart cart = cartRepository.save(Cart.builder()
+        Cart cart = transactionTemplate.execute(status -> {
+            userRepository.save(user);
+            return cartRepository.save(Cart.builder()
+                    .userId(user.getId())
+                    .build());
+        });
+        CreateUserRequest createUserRequest = CreateUserRequest.builder()
                 .userId(user.getId())
-                .build());
+                .userName(user.getName())
+                .build();
         try {
-            neo4jClient.createUser(CreateUserRequest.builder()
-                    .userId(user.getId())
-                    .userName(user.getName())
-                    .build()
-            );
+            neo4jClient.createUser(createUserRequest);
         } catch (FeignException.BadRequest badRequest) {
             log.error("[NEO4J CLIENT] Neo4j gave me a bad request response: {}", badRequest.getMessage());
+        } catch (RuntimeException unavailable) {
+            log.warn("[NEO4J CLIENT] Neo4j unavailable, deferring user creation: {}", unavailable.getClass().getSimpleName());
+            neo4jOutbox.createUser(createUserRequest);
         }
         return userMapper.toUserResponse(user, cart);
     }
@@ -129,9 +138,6 @@ public class UserService {
         }
 
         log.info("Starting attributes validation.");
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-
         Set<ConstraintViolation<User>> violations = validator.validate(user);
         if (!violations.isEmpty()) {
             StringBuilder errorMessage = new StringBuilder("Erros de validação:");
@@ -216,5 +222,6 @@ public class UserService {
 
     public void deleteById(String id) {
         userRepository.deleteById(Long.valueOf(id));
+        leaderboardService.delete(Long.parseLong(id));
     }
 }
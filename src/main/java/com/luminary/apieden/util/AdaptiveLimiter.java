@@ -0,0 +1,117 @@
+package com.luminary.apieden.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to measured latency.
+ * <ul>
+ *     <li>{@link Algorithm#GRADIENT}: compares each sample to the baseline latency, the minimum seen over the
+ *     current and previous epoch of {@value #BASELINE_EPOCH} samples, so it follows real shifts. While latency
+ *     stays within {@code rttTolerance} of the baseline the limit grows by about {@code sqrt(limit)}; when
+ *     requests start queueing it shrinks in proportion to the slowdown (at most by half per sample). A dropped
+ *     (failed) sample multiplies it by {@code backoffRatio} and is kept out of the baseline, since fast
+ *     failures say nothing about healthy latency.</li>
+ *     <li>{@link Algorithm#AIMD}: grows by one per healthy sample, multiplies by {@code backoffRatio} on a
+ *     drop (a failed or slower-than-{@code timeout} sample).</li>
+ * </ul>
+ * The limit only grows while at least half of it is in use, so an idle service doesn't inflate it.
+ */
+public class AdaptiveLimiter {
+    private static final int BASELINE_EPOCH = 500;
+
+    public enum Algorithm { GRADIENT, AIMD }
+
+    private final Algorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final long timeoutNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long previousMinRtt = Long.MAX_VALUE;
+    private long currentMinRtt = Long.MAX_VALUE;
+    private int epochSamples;
+
+    public AdaptiveLimiter(Algorithm algorithm, int initialLimit, int minLimit, int maxLimit, double smoothing,
+                           double rttTolerance, long timeoutNanos, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Expected 1 <= minLimit <= maxLimit");
+        }
+        this.algorithm = algorithm;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.timeoutNanos = timeoutNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = clamp(initialLimit);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Releases a permit taken by {@link #tryAcquire()} and feeds its latency into the limit. */
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        update(Math.max(1, rttNanos), inFlightBefore, dropped);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rtt, int inFlightBefore, boolean dropped) {
+        double current = limit;
+        boolean appLimited = inFlightBefore * 2 < current;
+        double next = switch (algorithm) {
+            case GRADIENT -> gradient(rtt, current, appLimited, dropped);
+            case AIMD -> aimd(rtt, current, appLimited, dropped);
+        };
+        limit = clamp(next);
+    }
+
+    private double gradient(long rtt, double current, boolean appLimited, boolean dropped) {
+        if (dropped) {
+            return current * backoffRatio;
+        }
+        currentMinRtt = Math.min(currentMinRtt, rtt);
+        long baseline = Math.min(previousMinRtt, currentMinRtt);
+        if (++epochSamples >= BASELINE_EPOCH) {
+            previousMinRtt = currentMinRtt;
+            currentMinRtt = Long.MAX_VALUE;
+            epochSamples = 0;
+        }
+        if (appLimited) {
+            return current;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * baseline / rtt));
+        double estimate = current * gradient + Math.sqrt(current);
+        return current * (1 - smoothing) + estimate * smoothing;
+    }
+
+    private double aimd(long rtt, double current, boolean appLimited, boolean dropped) {
+        if (dropped || rtt > timeoutNanos) {
+            return current * backoffRatio;
+        }
+        return appLimited ? current : current + 1;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,121 @@
+package com.luminary.apieden.util;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One borrow of a pooled connection, from {@code getConnection()} to {@code close()}. {@code active} is the
+ * time spent inside statement execution, commit and rollback; the rest of the hold is the connection sitting
+ * idle while the application does something else with it checked out.
+ */
+public final class ConnectionLease {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final String site;
+    private final String thread;
+    private final long acquiredAt;
+    private final long waitNanos;
+    private final Scope scope;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean reportedAsLeak;
+    private long activeNanos;
+
+    public ConnectionLease(String site, long waitNanos) {
+        this.site = site;
+        this.thread = Thread.currentThread().getName();
+        this.acquiredAt = System.nanoTime();
+        this.waitNanos = waitNanos;
+        this.scope = CURRENT.get();
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public void addActive(long nanos) {
+        activeNanos += nanos;
+    }
+
+    /** Marks the lease released and returns its hold time, or -1 if it already was. */
+    public long release() {
+        if (!released.compareAndSet(false, true)) {
+            return -1;
+        }
+        long held = System.nanoTime() - acquiredAt;
+        if (scope != null) {
+            scope.record(held, activeNanos);
+        }
+        return held;
+    }
+
+    public long age() {
+        return System.nanoTime() - acquiredAt;
+    }
+
+    /** True the first time it is called for this lease. */
+    public boolean reportAsLeak() {
+        if (reportedAsLeak) {
+            return false;
+        }
+        reportedAsLeak = true;
+        return true;
+    }
+
+    public String getSite() {
+        return site;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    public long getActiveNanos() {
+        return activeNanos;
+    }
+
+    /** Connection time of the leases acquired on the current thread while open, e.g. over one request. */
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int leases;
+        private long heldNanos;
+        private long activeNanos;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private synchronized void record(long held, long active) {
+            leases++;
+            heldNanos += held;
+            activeNanos += active;
+        }
+
+        public synchronized int getLeases() {
+            return leases;
+        }
+
+        public synchronized long getHeldNanos() {
+            return heldNanos;
+        }
+
+        public synchronized long getActiveNanos() {
+            return activeNanos;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
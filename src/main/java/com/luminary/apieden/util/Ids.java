@@ -0,0 +1,18 @@
+package com.luminary.apieden.util;
+
+import com.luminary.apieden.model.exception.HttpError;
+import org.springframework.http.HttpStatus;
+
+/** Ids as they arrive in paths, headers and query parameters; a non-numeric one is the client's error. */
+public final class Ids {
+    private Ids() {
+    }
+
+    public static long parse(String value, String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException notANumber) {
+            throw new HttpError(HttpStatus.BAD_REQUEST, "'" + name + "' precisa ser um número");
+        }
+    }
+}
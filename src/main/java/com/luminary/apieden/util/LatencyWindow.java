@@ -0,0 +1,49 @@
+package com.luminary.apieden.util;
+
+import java.util.Arrays;
+
+/**
+ * Sliding window over the last {@code capacity} latency samples, in nanoseconds. Percentiles are computed by
+ * sorting a copy of the window, cached until {@code capacity / 16} new samples have been recorded.
+ */
+public class LatencyWindow {
+    private final long[] samples;
+    private final int recomputeEvery;
+    private int next;
+    private int size;
+    private int sinceSorted;
+    private long[] sorted = new long[0];
+
+    public LatencyWindow(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.samples = new long[capacity];
+        this.recomputeEvery = Math.max(1, capacity / 16);
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+        sinceSorted++;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /** Nearest-rank percentile, {@code quantile} in (0, 1]. Returns -1 while the window is empty. */
+    public synchronized long percentile(double quantile) {
+        if (size == 0) {
+            return -1;
+        }
+        if (sorted.length != size || sinceSorted >= recomputeEvery) {
+            sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            sinceSorted = 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(rank, 1)) - 1];
+    }
+}
@@ -0,0 +1,187 @@
+package com.luminary.apieden.util;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Wraps every borrowed connection so the time it is held, and the part of it spent actually talking to the
+ * database, can be attributed to the code that borrowed it. {@code leased} is called after the pool hands a
+ * connection out and {@code released} once it is closed, i.e. given back. The same statement wrapper also hands
+ * each execution's SQL, bound parameters and elapsed time to a {@link StatementListener}. Either listener may be
+ * null when its feature is off.
+ */
+public class LeaseTrackingDataSource extends DelegatingDataSource {
+    private static final Set<String> ACTIVE_CONNECTION_METHODS = Set.of("commit", "rollback");
+
+    private final LeaseListener leases;
+    private final StatementListener statements;
+
+    public LeaseTrackingDataSource(DataSource target, LeaseListener leases, StatementListener statements) {
+        super(target);
+        this.leases = leases;
+        this.statements = statements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        return track(connection, System.nanoTime() - start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return track(connection, System.nanoTime() - start);
+    }
+
+    private Connection track(Connection connection, long waitNanos) {
+        ConnectionLease lease = leases != null ? leases.leased(waitNanos) : null;
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection, lease));
+    }
+
+    public interface LeaseListener {
+        ConnectionLease leased(long waitNanos);
+
+        void released(ConnectionLease lease);
+    }
+
+    @FunctionalInterface
+    public interface StatementListener {
+        /** {@code parameters} is null for batches, whose individual parameter sets are not kept. */
+        void executed(String sql, StatementParameters parameters, long nanos);
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final ConnectionLease lease;
+
+        private ConnectionHandler(Connection target, ConnectionLease lease) {
+            this.target = target;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    try {
+                        return call(target, method, args);
+                    } finally {
+                        if (lease != null) {
+                            leases.released(lease);
+                        }
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            if (lease != null && ACTIVE_CONNECTION_METHODS.contains(method.getName())) {
+                long start = System.nanoTime();
+                try {
+                    return call(target, method, args);
+                } finally {
+                    lease.addActive(System.nanoTime() - start);
+                }
+            }
+            Object result = call(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                        new StatementHandler(statement, sql, lease, (Connection) proxy));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private final ConnectionLease lease;
+        private final Connection connection;
+        private final StatementParameters parameters = new StatementParameters();
+
+        private StatementHandler(Statement target, String preparedSql, ConnectionLease lease, Connection connection) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.lease = lease;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "getConnection" -> {
+                    return connection;
+                }
+                case "clearParameters" -> parameters.clear();
+                default -> {
+                    if (statements != null && preparedSql != null && name.startsWith("set") && args != null
+                            && args.length >= 2 && args[0] instanceof Integer) {
+                        parameters.bind(method, args);
+                    }
+                }
+            }
+            if (!name.startsWith("execute")) {
+                return call(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return call(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (lease != null) {
+                    lease.addActive(elapsed);
+                }
+                if (statements != null) {
+                    executed(name, args, elapsed);
+                }
+            }
+        }
+
+        private void executed(String name, Object[] args, long elapsed) {
+            String inline = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            String sql = inline != null ? inline : preparedSql;
+            if (sql != null) {
+                statements.executed(sql, name.endsWith("Batch") ? null
+                        : inline != null ? new StatementParameters() : parameters, elapsed);
+            }
+        }
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException invocation) {
+            throw invocation.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.luminary.apieden.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Treap whose nodes keep the size of their subtree, so the position of a key and the first N keys can be
+ * found in O(log n) (plus N for the listing). Keys must be unique according to the comparator.
+ * Not thread-safe; callers guard it.
+ */
+public class OrderStatisticTree<K> {
+    private final Comparator<? super K> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<K> root;
+
+    public OrderStatisticTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    public void add(K key) {
+        Node<K>[] parts = split(root, key, false);
+        root = merge(merge(parts[0], new Node<>(key, random.nextInt())), parts[1]);
+    }
+
+    public boolean remove(K key) {
+        Node<K>[] lower = split(root, key, false);
+        Node<K>[] upper = split(lower[1], key, true);
+        boolean removed = upper[0] != null;
+        Node<K> middle = removed ? merge(upper[0].left, upper[0].right) : null;
+        root = merge(merge(lower[0], middle), upper[1]);
+        return removed;
+    }
+
+    /**
+     * Number of keys strictly before the given key.
+     */
+    public int rank(K key) {
+        int rank = 0;
+        Node<K> node = root;
+        while (node != null) {
+            if (comparator.compare(key, node.key) <= 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    public List<K> first(int limit) {
+        List<K> keys = new ArrayList<>(Math.min(limit, size()));
+        Deque<Node<K>> stack = new ArrayDeque<>();
+        Node<K> node = root;
+        while ((node != null || !stack.isEmpty()) && keys.size() < limit) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            keys.add(node.key);
+            node = node.right;
+        }
+        return keys;
+    }
+
+    /**
+     * Splits the subtree in keys before {@code key} (or up to and including it, when {@code inclusive}) and the rest.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<K>[] split(Node<K> node, K key, boolean inclusive) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        int comparison = comparator.compare(node.key, key);
+        if (comparison < 0 || (inclusive && comparison == 0)) {
+            Node<K>[] parts = split(node.right, key, inclusive);
+            node.right = parts[0];
+            node.update();
+            parts[0] = node;
+            return parts;
+        }
+        Node<K>[] parts = split(node.left, key, inclusive);
+        node.left = parts[1];
+        node.update();
+        parts[1] = node;
+        return parts;
+    }
+
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final int priority;
+        private int size = 1;
+        private Node<K> left;
+        private Node<K> right;
+
+        private Node(K key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.luminary.apieden.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the SQL statements issued on the current thread while a {@link Scope} is open, grouped by shape
+ * (literals replaced by {@code ?}, {@code IN} lists collapsed). Scopes nest: a statement counts towards every
+ * open scope of the thread. Statements issued on other threads (e.g. the forum fan-out pool) are not counted.
+ */
+public final class SqlStatementCounter {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlStatementCounter() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static void record(String sql) {
+        String shape = null;
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            if (shape == null) {
+                shape = shape(sql);
+            }
+            scope.record(shape);
+        }
+    }
+
+    public static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private int total;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String shape) {
+            if (!closed) {
+                total++;
+                shapes.merge(shape, 1, Integer::sum);
+            }
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /** Shapes executed at least {@code threshold} times in this scope, the usual sign of an N+1. */
+        public Map<String, Integer> repeated(int threshold) {
+            return shapes.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first,
+                            LinkedHashMap::new));
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                if (CURRENT.get() == this) {
+                    if (parent == null) {
+                        CURRENT.remove();
+                    } else {
+                        CURRENT.set(parent);
+                    }
+                }
+            }
+        }
+    }
+}
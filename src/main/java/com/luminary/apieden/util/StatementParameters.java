@@ -0,0 +1,59 @@
+package com.luminary.apieden.util;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The parameters of one statement execution, kept as the setter calls that bound them so the same values can be
+ * bound again on another statement, e.g. to {@code EXPLAIN} it.
+ */
+public final class StatementParameters {
+    private final Map<Integer, Binding> bindings = new HashMap<>();
+
+    void bind(Method setter, Object[] args) {
+        bindings.put((Integer) args[0], new Binding(setter, args));
+    }
+
+    void clear() {
+        bindings.clear();
+    }
+
+    public StatementParameters copy() {
+        StatementParameters copy = new StatementParameters();
+        copy.bindings.putAll(bindings);
+        return copy;
+    }
+
+    /** False when a value was bound from a stream or LOB, which cannot be read a second time. */
+    public boolean isReplayable() {
+        return bindings.values().stream()
+                .flatMap(binding -> Arrays.stream(binding.args()))
+                .noneMatch(value -> value instanceof InputStream || value instanceof Reader
+                        || value instanceof Blob || value instanceof Clob);
+    }
+
+    public void applyTo(PreparedStatement statement) throws SQLException {
+        for (Binding binding : bindings.values()) {
+            try {
+                binding.setter().invoke(statement, binding.args());
+            } catch (InvocationTargetException invocation) {
+                throw invocation.getTargetException() instanceof SQLException sqlException
+                        ? sqlException : new SQLException(invocation.getTargetException());
+            } catch (IllegalAccessException inaccessible) {
+                throw new SQLException(inaccessible);
+            }
+        }
+    }
+
+    private record Binding(Method setter, Object[] args) {
+    }
+}
@@ -0,0 +1,18 @@
+-- Per-seller, per-day sales aggregates maintained by OrderService.registerOrder.
+CREATE TABLE IF NOT EXISTS seller_sales_daily (
+    pk_id           BIGSERIAL PRIMARY KEY,
+    fk_seller_id    BIGINT           NOT NULL REFERENCES users (pk_id) ON DELETE CASCADE,
+    sale_date       DATE             NOT NULL,
+    units           BIGINT           NOT NULL DEFAULT 0,
+    gross_revenue   DOUBLE PRECISION NOT NULL DEFAULT 0,
+    distinct_buyers BIGINT           NOT NULL DEFAULT 0,
+    CONSTRAINT uq_seller_sales_daily UNIQUE (fk_seller_id, sale_date)
+);
+
+-- One row per (seller, day, buyer); lets distinct_buyers be incremented only on first purchase of the day.
+CREATE TABLE IF NOT EXISTS seller_sales_buyers (
+    fk_seller_id BIGINT NOT NULL REFERENCES users (pk_id) ON DELETE CASCADE,
+    sale_date    DATE   NOT NULL,
+    fk_buyer_id  BIGINT NOT NULL,
+    PRIMARY KEY (fk_seller_id, sale_date, fk_buyer_id)
+);
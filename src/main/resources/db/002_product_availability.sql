@@ -0,0 +1,16 @@
+-- Availability of a product; checkout flips AVAILABLE -> SOLD with a conditional UPDATE (row lock only).
+ALTER TABLE products ADD COLUMN IF NOT EXISTS availability VARCHAR(16) NOT NULL DEFAULT 'AVAILABLE';
+
+ALTER TABLE products DROP CONSTRAINT IF EXISTS ck_products_availability;
+ALTER TABLE products ADD CONSTRAINT ck_products_availability
+    CHECK (availability IN ('AVAILABLE', 'RESERVED', 'SOLD'));
+
+-- Products already bought before this column existed.
+UPDATE products p SET availability = 'SOLD'
+WHERE EXISTS (SELECT 1 FROM orders_itens oi WHERE oi.fk_product_id = p.pk_id);
+
+-- Feed and search only read available rows, so the indexes only need to cover them.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_products_available_premium
+    ON products (premium, fk_user_id) WHERE availability = 'AVAILABLE';
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_products_available_title
+    ON products (UPPER(title) text_pattern_ops) WHERE availability = 'AVAILABLE';
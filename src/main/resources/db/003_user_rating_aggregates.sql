@@ -0,0 +1,27 @@
+-- Running (sum, count) and a 10-bucket histogram (0.5 .. 5.0 in steps of 0.5) of the ratings a user received.
+-- RatingService applies each rating write as a delta, so user_rating_calc is no longer called.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS rating_sum DOUBLE PRECISION NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS rating_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS rating_histogram INTEGER[] NOT NULL DEFAULT ARRAY[0,0,0,0,0,0,0,0,0,0];
+
+UPDATE users u SET
+    rating_sum = agg.total,
+    rating_count = agg.amount,
+    rating_histogram = agg.histogram,
+    rating = agg.total / agg.amount
+FROM (
+    SELECT r.fk_user_appraised_id AS user_id,
+           SUM(r.rating) AS total,
+           COUNT(*) AS amount,
+           ARRAY(
+               SELECT COUNT(b.rating)::INTEGER
+               FROM generate_series(0, 9) AS bucket
+               LEFT JOIN ratings b ON b.fk_user_appraised_id = r.fk_user_appraised_id
+                   AND LEAST(9, GREATEST(0, ROUND(b.rating * 2)::INTEGER - 1)) = bucket
+               GROUP BY bucket
+               ORDER BY bucket
+           ) AS histogram
+    FROM ratings r
+    GROUP BY r.fk_user_appraised_id
+) agg
+WHERE u.pk_id = agg.user_id;
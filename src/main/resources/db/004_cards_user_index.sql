@@ -0,0 +1,3 @@
+-- Wallet reads filter cards by owner. The covering index serves them (and the bulk checkout read) with an
+-- index-only scan; card numbers are masked in the query, so only the last four digits leave the database.
+CREATE INDEX IF NOT EXISTS idx_cards_fk_user_id ON cards (fk_user_id, pk_id) INCLUDE (card_number, validity);
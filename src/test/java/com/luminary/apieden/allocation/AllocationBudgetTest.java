@@ -0,0 +1,275 @@
+package com.luminary.apieden.allocation;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.luminary.apieden.client.Neo4jClient;
+import com.luminary.apieden.controller.CartController;
+import com.luminary.apieden.controller.OrderController;
+import com.luminary.apieden.controller.ProductController;
+import com.luminary.apieden.mapper.CartMapperImpl;
+import com.luminary.apieden.mapper.OrderMapperImpl;
+import com.luminary.apieden.mapper.ProductMapperImpl;
+import com.luminary.apieden.mapper.SellerStatsMapperImpl;
+import com.luminary.apieden.model.database.Cart;
+import com.luminary.apieden.model.database.CartItem;
+import com.luminary.apieden.model.database.PaymentType;
+import com.luminary.apieden.model.database.Product;
+import com.luminary.apieden.model.database.User;
+import com.luminary.apieden.model.enums.ProductAvailability;
+import com.luminary.apieden.repository.CartItemRepository;
+import com.luminary.apieden.repository.CartRepository;
+import com.luminary.apieden.repository.ConditionTypeRepository;
+import com.luminary.apieden.repository.OrderItemRepository;
+import com.luminary.apieden.repository.OrderRepository;
+import com.luminary.apieden.repository.PaymentTypeRepository;
+import com.luminary.apieden.repository.ProductRepository;
+import com.luminary.apieden.repository.SellerSalesDailyRepository;
+import com.luminary.apieden.repository.UsageTimeRepository;
+import com.luminary.apieden.repository.UserRepository;
+import com.luminary.apieden.service.CartService;
+import com.luminary.apieden.service.OrderService;
+import com.luminary.apieden.service.ProductService;
+import com.luminary.apieden.service.SellerStatsService;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Bytes allocated per request on the serving thread by the hot endpoints, against the budgets in
+ * {@code allocation/budgets.properties}; {@code -Dallocation.budget.<endpoint>=<bytes>} overrides one. The real
+ * controllers, services, mappers and Jackson serve each request through a standalone {@link MockMvc}, on the test
+ * thread, with in-memory repositories, so the figure covers everything above the database. Each endpoint is
+ * warmed up first and the median of {@value #SAMPLES} requests is compared; application logging is muted, as
+ * its cost depends on the appender rather than on the code under test.
+ */
+class AllocationBudgetTest {
+    private static final int WARMUP = 2_000;
+    private static final int SAMPLES = 51;
+    private static final int FEED_SIZE = 50;
+    private static final int CART_SIZE = 5;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Logger APPLICATION_LOGGER = (Logger) LoggerFactory.getLogger("com.luminary.apieden");
+
+    private static Properties budgets;
+    private static Level applicationLevel;
+    private static ValidatorFactory validatorFactory;
+    private static MockMvc mockMvc;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        budgets = new Properties();
+        try (InputStream input = AllocationBudgetTest.class.getResourceAsStream("/allocation/budgets.properties")) {
+            budgets.load(input);
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        applicationLevel = APPLICATION_LOGGER.getLevel();
+        APPLICATION_LOGGER.setLevel(Level.WARN);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+
+        ProductRepository productRepository = repository(ProductRepository.class, Map.of(
+                "findById", args -> Optional.of(product((Long) args[0])),
+                "findAvailableProductsByUserIdNotAndPremium", args -> products(),
+                "compareAndSetAvailability", args -> 1,
+                "updateDetailsIfAvailable", args -> 1,
+                "save", args -> args[0]));
+        CartRepository cartRepository = repository(CartRepository.class, Map.of(
+                "findById", args -> Optional.of(Cart.builder().id((Long) args[0]).userId(1).totalSale(17_500f).build()),
+                "totalSaleCalc", args -> null));
+        CartItemRepository cartItemRepository = repository(CartItemRepository.class, Map.of(
+                "findCartItemsByCartId", args -> cartItems((Long) args[0]),
+                "deleteCartItemsByProductId", args -> null));
+        UserRepository userRepository = repository(UserRepository.class, Map.of(
+                "findById", args -> Optional.of(user((Long) args[0])),
+                "removeFavoriteProduct", args -> null));
+        SellerSalesDailyRepository sellerSalesDailyRepository = repository(SellerSalesDailyRepository.class, Map.of(
+                "registerBuyer", args -> 1,
+                "accumulate", args -> null));
+        Neo4jClient neo4jClient = repository(Neo4jClient.class, Map.of("createRelationship", args -> List.of()));
+
+        ProductService productService = new ProductService(productRepository,
+                repository(ConditionTypeRepository.class, Map.of()), repository(UsageTimeRepository.class, Map.of()),
+                userRepository, repository(OrderItemRepository.class, Map.of()), new ProductMapperImpl(),
+                validatorFactory.getValidator());
+        CartService cartService = new CartService(cartRepository, cartItemRepository, productRepository, new CartMapperImpl());
+        OrderService orderService = new OrderService(
+                repository(PaymentTypeRepository.class, Map.of(
+                        "findById", args -> Optional.of(new PaymentType((Long) args[0], "PIX", "Pagamento instantâneo")))),
+                repository(OrderRepository.class, Map.of("save", args -> args[0])),
+                repository(OrderItemRepository.class, Map.of("save", args -> args[0])),
+                cartRepository, cartItemRepository, productRepository, userRepository, new OrderMapperImpl(),
+                neo4jClient, null, new SellerStatsService(sellerSalesDailyRepository, new SellerStatsMapperImpl()),
+                new TransactionTemplate(new NoOpTransactionManager()));
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new ProductController(productService), new CartController(cartService), new OrderController(orderService))
+                .build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        APPLICATION_LOGGER.setLevel(applicationLevel);
+        validatorFactory.close();
+    }
+
+    @Test
+    void feed() throws Exception {
+        assertWithinBudget("feed", get("/product/getProducts").header("userId", "1"));
+    }
+
+    @Test
+    void productById() throws Exception {
+        assertWithinBudget("product-by-id", get("/product/getByProductId/42"));
+    }
+
+    @Test
+    void productUpdate() throws Exception {
+        assertWithinBudget("product-update", patch("/product/update/42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"PC Gamer RTX\",\"description\":\"Ryzen 7, 32GB RAM, RTX 3070\",\"price\":4100.0}"));
+    }
+
+    @Test
+    void cartView() throws Exception {
+        assertWithinBudget("cart-view", get("/cart/getCartItemsByCartId/1"));
+    }
+
+    @Test
+    void checkout() throws Exception {
+        assertWithinBudget("checkout", post("/order/registerOrder")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cartId\":1,\"paymentTypeId\":1,\"addressDelivery\":\"Av. Paulista, 1000\"}"));
+    }
+
+    private static void assertWithinBudget(String endpoint, RequestBuilder request) throws Exception {
+        long budget = Long.getLong("allocation.budget." + endpoint,
+                Long.parseLong(budgets.getProperty(endpoint, "0").replace("_", "")));
+        long allocated = allocatedPerRequest(request);
+        System.out.printf("[ALLOCATION] %-15s %,10d bytes/request (budget %,d)%n", endpoint, allocated, budget);
+        assertTrue(budget > 0, "no allocation budget for '" + endpoint + "'");
+        assertTrue(allocated <= budget, String.format("'%s' allocates %,d bytes per request, over its budget of %,d."
+                + " Find what grew (e.g. with the JMH module's -prof gc) or raise the budget in budgets.properties",
+                endpoint, allocated, budget));
+    }
+
+    private static long allocatedPerRequest(RequestBuilder request) throws Exception {
+        for (int iteration = 0; iteration < WARMUP; iteration++) {
+            perform(request);
+        }
+        long[] samples = new long[SAMPLES];
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            MvcResult result = mockMvc.perform(request).andReturn();
+            samples[sample] = THREADS.getCurrentThreadAllocatedBytes() - before;
+            assertEquals(2, result.getResponse().getStatus() / 100, result.getResponse().getContentAsString());
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    private static void perform(RequestBuilder request) throws Exception {
+        int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+        assertEquals(2, status / 100, "request failed during warmup with " + status);
+    }
+
+    private static List<Product> products() {
+        return IntStream.range(0, FEED_SIZE).mapToObj(id -> product(100 + id)).toList();
+    }
+
+    private static List<CartItem> cartItems(long cartId) {
+        return IntStream.range(0, CART_SIZE)
+                .mapToObj(item -> CartItem.builder().id(item + 1).cartId(cartId).productId(200 + item).build())
+                .toList();
+    }
+
+    private static User user(long id) {
+        return User.builder()
+                .id(id)
+                .cpf("42391552076")
+                .name("Pedro Moisés " + id)
+                .userName("pedro.gusmao" + id)
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoO5rYgZl6yWQ1sM8m0JY9y3Wd7Q1nQ5lK")
+                .rating(3.5f)
+                .email("pedro" + id + "@mail.com")
+                .cellphone("11400289220")
+                .build();
+    }
+
+    private static Product product(long id) {
+        return Product.builder()
+                .id(id)
+                .usageTimeId(1)
+                .conditionTypeId(2)
+                .user(user(2 + id % 10))
+                .title("PC Gamer " + id)
+                .description("Ryzen 5, 16GB RAM, RTX 3060, pouco uso")
+                .price(3500.0)
+                .maxPrice(4200.0)
+                .senderZipCode("01310100")
+                .availability(ProductAvailability.AVAILABLE)
+                .build();
+    }
+
+    /** Answers the listed methods; any other call fails, so a new query on a hot path is noticed here. */
+    @SuppressWarnings("unchecked")
+    private static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName();
+                    default -> {
+                        Function<Object[], Object> answer = answers.get(method.getName());
+                        if (answer == null) {
+                            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                        }
+                        yield answer.apply(args);
+                    }
+                });
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.luminary.apieden.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.apieden.config.ForumCacheProperties;
+import com.luminary.apieden.model.client.ForumResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ForumSnapshotCacheTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int posts = 1;
+    private volatile int status = 200;
+    private volatile long delayMillis = 0;
+
+    private HttpServer stub;
+    private ExecutorService executor;
+    private ForumCacheProperties properties;
+    private ForumSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/forum", exchange -> {
+            hits.incrementAndGet();
+            sleep(delayMillis);
+            byte[] body = status == 200 ? forumJson(posts) : new byte[0];
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+        executor = Executors.newFixedThreadPool(2);
+        properties = new ForumCacheProperties();
+        properties.setTtl(Duration.ofHours(1));
+        properties.setFailureBackoff(Duration.ZERO);
+        cache = new ForumSnapshotCache(new StubForumClient(), executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void servesSnapshotWithoutCallingUpstreamAgainWhileFresh() {
+        assertEquals(1, cache.posts().size());
+        assertEquals(1, cache.posts().size());
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void servesStaleSnapshotImmediatelyAndRefreshesInBackground() {
+        cache.posts();
+        properties.setTtl(Duration.ZERO);
+        posts = 3;
+        delayMillis = 300;
+
+        long start = System.nanoTime();
+        List<ForumResponse> stale = cache.posts();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals(1, stale.size());
+        assertTrue(elapsedMillis < delayMillis, "stale read waited for upstream: " + elapsedMillis + "ms");
+        assertEquals(3, cache.refresh().join().posts().size());
+    }
+
+    @Test
+    void collapsesConcurrentRefreshesIntoOneUpstreamCall() {
+        cache.posts();
+        properties.setTtl(Duration.ZERO);
+        delayMillis = 300;
+        hits.set(0);
+        int callers = 20;
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+        CyclicBarrier start = new CyclicBarrier(callers);
+
+        try {
+            List<CompletableFuture<CompletableFuture<ForumSnapshotCache.Snapshot>>> calls = IntStream.range(0, callers)
+                    .mapToObj(ignored -> CompletableFuture.supplyAsync(() -> {
+                        awaitAll(start);
+                        return cache.refresh();
+                    }, callerPool))
+                    .toList();
+            calls.stream().map(CompletableFuture::join).toList().forEach(CompletableFuture::join);
+        } finally {
+            callerPool.shutdownNow();
+        }
+
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void keepsServingStaleSnapshotWhenUpstreamIsDown() {
+        cache.posts();
+        properties.setTtl(Duration.ZERO);
+        status = 500;
+
+        assertThrows(Exception.class, () -> cache.refresh().join());
+        assertEquals(1, cache.posts().size());
+    }
+
+    private static void awaitAll(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("callers did not start together", e);
+        }
+    }
+
+    private byte[] forumJson(int amount) throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int post = 0; post < amount; post++) {
+            json.append(post == 0 ? "" : ",")
+                    .append("{\"id\":\"").append(post).append("\",\"postId\":").append(post)
+                    .append(",\"userId\":1,\"content\":\"post\",\"postDate\":\"2024-08-01T10:00:00\"}");
+        }
+        return json.append("]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class StubForumClient implements ForumClient {
+        private final HttpClient httpClient = HttpClient.newHttpClient();
+
+        @Override
+        public List<ForumResponse> findAll() {
+            return get("/forum");
+        }
+
+        @Override
+        public List<ForumResponse> findById(String userId) {
+            return get("/forum/user/" + userId);
+        }
+
+        private List<ForumResponse> get(String path) {
+            try {
+                URI uri = URI.create("http://localhost:" + stub.getAddress().getPort() + path);
+                HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Forum stub answered " + response.statusCode());
+                }
+                return objectMapper.readValue(response.body(), new TypeReference<>() {
+                });
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(interrupted);
+            }
+        }
+    }
+}
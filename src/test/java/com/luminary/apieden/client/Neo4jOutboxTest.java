@@ -0,0 +1,48 @@
+package com.luminary.apieden.client;
+
+import com.luminary.apieden.model.client.CreateUserRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Neo4jOutboxTest {
+    private final Neo4jOutbox outbox = new Neo4jOutbox(null, 10, new SimpleMeterRegistry());
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void queuesImmediatelyOutsideATransaction() {
+        outbox.createUser(CreateUserRequest.builder().userId(1L).userName("ana").build());
+
+        assertEquals(1, outbox.size());
+    }
+
+    @Test
+    void queuesOnlyOnceTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        outbox.createUser(CreateUserRequest.builder().userId(1L).userName("ana").build());
+
+        assertEquals(0, outbox.size());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, outbox.size());
+    }
+
+    @Test
+    void dropsTheWriteWhenTheTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        outbox.createUser(CreateUserRequest.builder().userId(1L).userName("ana").build());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(0, outbox.size());
+    }
+}
@@ -0,0 +1,156 @@
+package com.luminary.apieden.client;
+
+import com.luminary.apieden.config.ResilienceProperties;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestLine;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResilientFeignCapabilityTest {
+    private final AtomicInteger hits = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile int status = 200;
+    private volatile boolean hang = false;
+
+    private HttpServer stub;
+    private ExecutorService callers;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ResilienceProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/ping", exchange -> {
+            hits.incrementAndGet();
+            if (hang) {
+                await(release);
+            }
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+        callers = Executors.newCachedThreadPool();
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        properties = new ResilienceProperties();
+        ResilienceProperties.Downstream downstream = properties.getDefaults();
+        downstream.setSlidingWindowSize(4);
+        downstream.setMinimumNumberOfCalls(4);
+        downstream.setWaitInOpenState(Duration.ofMillis(200));
+        downstream.setPermittedCallsInHalfOpenState(1);
+        downstream.setMaxConcurrentCalls(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        stub.stop(0);
+        callers.shutdownNow();
+    }
+
+    @Test
+    void opensAfterServerErrorsAndProbesAgainWhenHalfOpen() throws InterruptedException {
+        StubApi api = client(Duration.ofSeconds(2));
+        status = 500;
+        for (int call = 0; call < 4; call++) {
+            assertThrows(FeignException.InternalServerError.class, api::ping);
+        }
+
+        assertThrows(CallNotPermittedException.class, api::ping);
+        assertEquals(4, hits.get());
+
+        status = 200;
+        Thread.sleep(250);
+        assertEquals("pong", api.ping());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("stubApi").getState());
+    }
+
+    @Test
+    void clientErrorsDoNotOpenTheBreaker() {
+        StubApi api = client(Duration.ofSeconds(2));
+        status = 400;
+        for (int call = 0; call < 8; call++) {
+            assertThrows(FeignException.BadRequest.class, api::ping);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("stubApi").getState());
+    }
+
+    @Test
+    void readTimeoutsCountAsFailures() {
+        StubApi api = client(Duration.ofMillis(100));
+        hang = true;
+        for (int call = 0; call < 4; call++) {
+            assertThrows(RetryableException.class, api::ping);
+        }
+        assertThrows(CallNotPermittedException.class, api::ping);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondTheConcurrencyLimit() throws Exception {
+        StubApi api = client(Duration.ofSeconds(5));
+        hang = true;
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(api::ping, callers);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(api::ping, callers);
+        while (hits.get() < 2) {
+            Thread.sleep(10);
+        }
+
+        assertThrows(BulkheadFullException.class, api::ping);
+
+        release.countDown();
+        assertEquals("pong", first.get(5, TimeUnit.SECONDS));
+        assertEquals("pong", second.get(5, TimeUnit.SECONDS));
+    }
+
+    private StubApi client(Duration readTimeout) {
+        return Feign.builder()
+                .addCapability(new ResilientFeignCapability(circuitBreakerRegistry, BulkheadRegistry.ofDefaults(), properties))
+                .options(new Request.Options(200, TimeUnit.MILLISECONDS, readTimeout.toMillis(), TimeUnit.MILLISECONDS, true))
+                .retryer(Retryer.NEVER_RETRY)
+                .target(new Target.HardCodedTarget<>(StubApi.class, "stubApi",
+                        "http://localhost:" + stub.getAddress().getPort()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    interface StubApi {
+        @RequestLine("GET /ping")
+        String ping();
+    }
+}
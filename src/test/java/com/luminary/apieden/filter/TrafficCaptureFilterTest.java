@@ -0,0 +1,124 @@
+package com.luminary.apieden.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.apieden.config.TrafficCaptureProperties;
+import com.luminary.apieden.job.TrafficCaptureWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrafficCaptureFilterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path directory;
+    private TrafficCaptureProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TrafficCaptureProperties();
+        properties.setDirectory(directory);
+        properties.setCaptureBodies(true);
+    }
+
+    @Test
+    void writesSanitizedTraceAfterTheRequest() throws Exception {
+        List<JsonNode> traces = capture(1, "{\"email\":\"a@b.com\",\"password\":\"megaSenha@123\",\"card\":{\"cvv\":\"123\"}}");
+
+        JsonNode trace = traces.get(0);
+        assertEquals("POST", trace.get("method").asText());
+        assertEquals("/user/{id}", trace.get("route").asText());
+        assertEquals("/user/1", trace.get("path").asText());
+        assertEquals("verbose=true", trace.get("query").asText());
+        assertEquals(201, trace.get("status").asInt());
+        assertFalse(trace.get("headers").has(HttpHeaders.AUTHORIZATION));
+        assertEquals("test", trace.get("headers").get("X-Client").asText());
+        assertEquals(64, trace.get("bodySha256").asText().length());
+        JsonNode body = objectMapper.readTree(trace.get("body").asText());
+        assertEquals("a@b.com", body.get("email").asText());
+        assertEquals("***", body.get("password").asText());
+        assertEquals("***", body.get("card").get("cvv").asText());
+    }
+
+    @Test
+    void keepsOnlyTheDigestWhenBodiesAreNotCaptured() throws Exception {
+        properties.setCaptureBodies(false);
+
+        JsonNode trace = capture(1, "{\"password\":\"megaSenha@123\"}").get(0);
+
+        assertNotNull(trace.get("bodySha256"));
+        assertFalse(trace.has("body"));
+    }
+
+    @Test
+    void rollsFilesAndKeepsTheNewest() throws Exception {
+        properties.setMaxFileSize(DataSize.ofBytes(1));
+        properties.setMaxFiles(2);
+        properties.setBatchSize(1);
+
+        assertEquals(1, capture(5, "{}").size());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    private List<JsonNode> capture(int requests, String body) throws Exception {
+        TrafficCaptureWriter writer = new TrafficCaptureWriter(properties, objectMapper, meterRegistry);
+        TrafficCaptureFilter filter = new TrafficCaptureFilter(properties, writer, objectMapper);
+        writer.start();
+        for (int i = 0; i < requests; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/user/1");
+            request.setQueryString("verbose=true");
+            request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+            request.addHeader("X-Client", "test");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+                servletRequest.getInputStream().readAllBytes();
+                servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/user/{id}");
+                ((MockHttpServletResponse) servletResponse).setStatus(201);
+            });
+        }
+        writer.stop();
+        assertEquals(requests, meterRegistry.counter("traffic.capture.written").count());
+        return lines();
+    }
+
+    private List<JsonNode> lines() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> captures = files.sorted().toList();
+            assertTrue(captures.size() > 0);
+            return Files.readAllLines(captures.get(captures.size() - 1)).stream()
+                    .map(line -> {
+                        try {
+                            return objectMapper.readTree(line);
+                        } catch (IOException invalid) {
+                            throw new IllegalStateException(invalid);
+                        }
+                    })
+                    .toList();
+        }
+    }
+}
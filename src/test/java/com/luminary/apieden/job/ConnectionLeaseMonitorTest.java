@@ -0,0 +1,69 @@
+package com.luminary.apieden.job;
+
+import com.luminary.apieden.config.ConnectionLeaseProperties;
+import com.luminary.apieden.util.ConnectionLease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionLeaseMonitorTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConnectionLeaseProperties properties = new ConnectionLeaseProperties();
+    private final ConnectionLeaseMonitor monitor = new ConnectionLeaseMonitor(properties, registry);
+
+    @Test
+    void timesEveryLeaseAndCountsLongHolds() throws InterruptedException {
+        properties.setLongHoldThreshold(Duration.ofMillis(20));
+
+        monitor.released(monitor.leased(0));
+        ConnectionLease held = monitor.leased(TimeUnit.MILLISECONDS.toNanos(3));
+        held.addActive(TimeUnit.MILLISECONDS.toNanos(2));
+        Thread.sleep(30);
+        monitor.released(held);
+
+        Timer heldTimer = registry.get("jdbc.connection.held").tag("site", "unknown").timer();
+        assertEquals(2, heldTimer.count());
+        assertTrue(heldTimer.max(TimeUnit.MILLISECONDS) >= 30, "longest hold was " + heldTimer.max(TimeUnit.MILLISECONDS));
+        assertEquals(2, registry.get("jdbc.connection.active").tag("site", "unknown").timer().max(TimeUnit.MILLISECONDS));
+        assertEquals(1, registry.get("jdbc.connection.long.holds").tag("site", "unknown").counter().count());
+        assertEquals(0, registry.get("jdbc.connection.leased").gauge().value());
+    }
+
+    @Test
+    void reportsALeakOnceAndForgetsItOnRelease() throws InterruptedException {
+        properties.setLeakThreshold(Duration.ofMillis(20));
+        ConnectionLease leaked = monitor.leased(0);
+        monitor.reportLeaks();
+        assertNull(registry.find("jdbc.connection.leaks").counter(), "reported before the threshold");
+
+        Thread.sleep(30);
+        monitor.reportLeaks();
+        monitor.reportLeaks();
+
+        Counter leaks = registry.get("jdbc.connection.leaks").tag("site", "unknown").counter();
+        assertEquals(1, leaks.count());
+        assertEquals(1, registry.get("jdbc.connection.leased").gauge().value());
+        monitor.released(leaked);
+        monitor.released(leaked);
+        assertEquals(0, registry.get("jdbc.connection.leased").gauge().value());
+        assertEquals(1, registry.get("jdbc.connection.held").timer().count());
+    }
+
+    @Test
+    void tagsLeasesWithTheAcquiringMethodWhenEnabled() {
+        properties.setCaptureSite(true);
+
+        monitor.released(monitor.leased(0));
+
+        assertEquals(1, registry.get("jdbc.connection.held")
+                .tag("site", "ConnectionLeaseMonitorTest#tagsLeasesWithTheAcquiringMethodWhenEnabled").timer().count());
+    }
+}
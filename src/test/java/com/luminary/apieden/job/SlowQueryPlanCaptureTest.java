@@ -0,0 +1,143 @@
+package com.luminary.apieden.job;
+
+import com.luminary.apieden.config.SlowQueryProperties;
+import com.luminary.apieden.model.response.SlowQueryResponse;
+import com.luminary.apieden.util.LeaseTrackingDataSource;
+import com.luminary.apieden.util.StatementParameters;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlowQueryPlanCaptureTest {
+    private static EmbeddedPostgres postgres;
+
+    private final List<Execution> executions = new ArrayList<>();
+    private HikariDataSource pool;
+    private SlowQueryRecorder recorder;
+
+    @BeforeAll
+    static void startDatabase() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE items (pk_id INT PRIMARY KEY, name TEXT NOT NULL)");
+            statement.execute("INSERT INTO items SELECT id, 'item ' || id FROM generate_series(1, 100) id");
+        }
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (recorder != null) {
+            recorder.close();
+        }
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    void capturesBoundParametersSoTheyCanBeReplayed() throws SQLException {
+        LeaseTrackingDataSource dataSource = new LeaseTrackingDataSource(pool(), null,
+                (sql, parameters, nanos) -> executions.add(new Execution(sql, parameters == null ? null : parameters.copy())));
+        String sql = "SELECT name FROM items WHERE pk_id = ? AND name LIKE ?";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             Statement plain = connection.createStatement()) {
+            statement.setInt(1, 42);
+            statement.setString(2, "item%");
+            statement.executeQuery().close();
+            statement.clearParameters();
+            statement.setInt(1, 7);
+            statement.setString(2, "%7");
+            statement.addBatch();
+            statement.executeBatch();
+            plain.execute("SELECT 1");
+        }
+
+        assertEquals(3, executions.size());
+        assertEquals(sql, executions.get(0).sql());
+        assertNull(executions.get(1).parameters(), "batches keep no parameters");
+        assertEquals("SELECT 1", executions.get(2).sql());
+        StatementParameters replayed = executions.get(0).parameters();
+        assertTrue(replayed.isReplayable());
+        try (Connection raw = postgres.getPostgresDatabase().getConnection();
+             PreparedStatement statement = raw.prepareStatement(sql)) {
+            replayed.applyTo(statement);
+            try (ResultSet rows = statement.executeQuery()) {
+                assertTrue(rows.next());
+                assertEquals("item 42", rows.getString(1));
+            }
+        }
+    }
+
+    @Test
+    void explainsSlowQueriesWithoutWaitingForThePool() throws Exception {
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofMillis(50));
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        dataSourceProperties.setUsername("postgres");
+        dataSourceProperties.setPassword("postgres");
+        recorder = new SlowQueryRecorder(properties, dataSourceProperties);
+        LeaseTrackingDataSource dataSource = new LeaseTrackingDataSource(pool(), null, recorder::record);
+
+        // The request thread keeps the pool's only connection while the plan is captured, as in production
+        try (Connection held = dataSource.getConnection();
+             PreparedStatement statement = held.prepareStatement(
+                     "SELECT name, pg_sleep(0.1) FROM items WHERE pk_id = ?")) {
+            statement.setInt(1, 42);
+            statement.executeQuery().close();
+
+            SlowQueryResponse slow = awaitPlan(Duration.ofSeconds(5));
+            assertNotNull(slow.getPlan(), "no plan captured while the pool was exhausted");
+            assertTrue(slow.getPlan().contains("items"), slow.getPlan());
+            assertEquals(1, pool.getHikariPoolMXBean().getTotalConnections());
+        }
+    }
+
+    private SlowQueryResponse awaitPlan(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        SlowQueryResponse slowest = recorder.top(1, "max").get(0);
+        while (slowest.getPlan() == null && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            slowest = recorder.top(1, "max").get(0);
+        }
+        return slowest;
+    }
+
+    private HikariDataSource pool() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        pool.setUsername("postgres");
+        pool.setMaximumPoolSize(1);
+        return pool;
+    }
+
+    private record Execution(String sql, StatementParameters parameters) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.luminary.apieden.job;
+
+import com.luminary.apieden.config.SlowQueryProperties;
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.response.SlowQueryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlowQueryRecorderTest {
+    private final SlowQueryProperties properties = new SlowQueryProperties();
+    private final SlowQueryRecorder recorder = new SlowQueryRecorder(properties, new DataSourceProperties());
+
+    @AfterEach
+    void tearDown() {
+        recorder.close();
+    }
+
+    @Test
+    void groupsExecutionsByFingerprint() {
+        recorder.record("select * from orders where fk_user_id = 1", null, millis(2));
+        recorder.record("select * from orders where fk_user_id = 42", null, millis(4));
+        recorder.record("select * from products where pk_id in (1, 2, 3)", null, millis(1));
+
+        List<SlowQueryResponse> top = recorder.top(10, "total");
+
+        assertEquals(2, top.size());
+        assertEquals("select * from orders where fk_user_id = ?", top.get(0).getFingerprint());
+        assertEquals(2, top.get(0).getCount());
+        assertEquals(6.0, top.get(0).getTotalMillis());
+        assertEquals(85.7, top.get(0).getSharePercent());
+        assertEquals("select * from products where pk_id in (...)", top.get(1).getFingerprint());
+    }
+
+    @Test
+    void reportsPercentilesAndSlowExecutions() {
+        properties.setThreshold(Duration.ofMillis(40));
+        for (int execution = 0; execution < 1000; execution++) {
+            recorder.record("select * from carts where pk_id = " + execution, null, execution < 990 ? millis(1) : millis(50));
+        }
+        recorder.record("select * from users", null, millis(30));
+
+        SlowQueryResponse carts = recorder.top(1, "count").get(0);
+
+        assertTrue(carts.getP99Millis() >= 1 && carts.getP99Millis() <= 1.125, "p99 was " + carts.getP99Millis());
+        assertEquals(50.0, carts.getMaxMillis());
+        assertEquals(10, carts.getSlowCount());
+        assertEquals("select * from users", recorder.top(1, "p99").get(0).getFingerprint());
+    }
+
+    @Test
+    void rejectsUnknownOrder() {
+        HttpError error = assertThrows(HttpError.class, () -> recorder.top(10, "name"));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getHttpStatus());
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,112 @@
+package com.luminary.apieden.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.apieden.model.database.Card;
+import com.luminary.apieden.model.request.CardRequest;
+import com.luminary.apieden.model.response.CardResponse;
+import com.luminary.apieden.service.CardService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Wallet reads return masked card numbers and are cached per owner until one of their cards changes. Needs the
+ * embedded database, so it runs with the load test profile: {@code ./mvnw test -Ploadtest -Dtest=CardWalletTest}.
+ */
+@Tag("loadtest")
+@SpringBootTest
+class CardWalletTest {
+    private static final LoadTestSettings SETTINGS = new LoadTestSettings(2, Duration.ZERO, Duration.ZERO,
+            Duration.ZERO, Duration.ZERO, 40, 10, 10, 10);
+    private static LoadTestDatabase database;
+    private static DownstreamStubs stubs;
+
+    @Autowired
+    private CardService cardService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void environment(DynamicPropertyRegistry registry) throws Exception {
+        database = new LoadTestDatabase(SETTINGS);
+        stubs = new DownstreamStubs(SETTINGS);
+        registry.add("spring.datasource.url", database::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("api.mongo", stubs::forumUrl);
+        registry.add("api.neo4j", stubs::neo4jUrl);
+    }
+
+    @AfterAll
+    static void stopEnvironment() throws IOException {
+        stubs.close();
+        database.close();
+    }
+
+    @Test
+    void walletShowsOnlyTheLastFourDigits() {
+        insertCard(5, "4111111111111234");
+
+        List<CardResponse> wallet = cardService.findByUserId("5");
+
+        assertEquals(1, wallet.size());
+        assertEquals("************1234", wallet.get(0).getCardNumber());
+        assertEquals("01/27", wallet.get(0).getValidity());
+        assertEquals(5, wallet.get(0).getUserId());
+    }
+
+    @Test
+    void walletIsCachedUntilTheOwnerChangesACard() {
+        insertCard(6, "5500000000000004");
+        assertEquals(1, cardService.findByUserId("6").size());
+
+        insertCard(6, "5500000000000012");
+        assertEquals(1, cardService.findByUserId("6").size(), "wallet read from the database again");
+
+        Card registered = cardService.registerCard(cardRequest(6, "5500000000000020"));
+        assertEquals(3, cardService.findByUserId("6").size());
+
+        cardService.deleteCard(String.valueOf(registered.getId()));
+        assertEquals(List.of("************0004", "************0012"),
+                cardService.findByUserId("6").stream().map(CardResponse::getCardNumber).toList());
+    }
+
+    @Test
+    void bulkReadServesCachedWalletsAndCachesTheOnesItLoads() {
+        assertEquals(List.of(), cardService.findByUserId("7"));
+        insertCard(7, "4000000000000002");
+        insertCard(8, "4000000000000010");
+
+        Map<Long, List<CardResponse>> wallets = cardService.findByUserIds(List.of(8L, 7L, 8L));
+
+        assertEquals(List.of(8L, 7L), List.copyOf(wallets.keySet()));
+        assertEquals(List.of(), wallets.get(7L), "cached wallet of user 7 not used");
+        assertEquals("************0010", wallets.get(8L).get(0).getCardNumber());
+        insertCard(8, "4000000000000028");
+        assertEquals(1, cardService.findByUserId("8").size(), "bulk read did not cache the wallet it loaded");
+    }
+
+    private void insertCard(long userId, String number) {
+        jdbcTemplate.update("INSERT INTO cards (fk_user_id, card_number, cvv, validity) VALUES (?, ?, '123', '01/27')",
+                userId, number);
+    }
+
+    private CardRequest cardRequest(long userId, String number) {
+        return objectMapper.convertValue(Map.of("userId", userId, "cardNumber", number, "cvv", "123",
+                "validity", "01/27"), CardRequest.class);
+    }
+}
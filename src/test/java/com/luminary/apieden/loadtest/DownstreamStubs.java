@@ -0,0 +1,100 @@
+package com.luminary.apieden.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local stand-ins for the forum (Mongo) and Neo4j APIs behind {@code ForumClient} and {@code Neo4jClient}.
+ * Every answer is delayed by the configured latency, so the downstream share of a request is realistic.
+ */
+class DownstreamStubs implements AutoCloseable {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer forum;
+    private final HttpServer neo4j;
+    private final byte[] allPosts;
+
+    DownstreamStubs(LoadTestSettings settings) throws IOException {
+        allPosts = posts(settings.forumPosts(), settings.users(), -1);
+        forum = start(exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (path.startsWith("/forum/user/")) {
+                long userId = Long.parseLong(path.substring("/forum/user/".length()));
+                return posts(3, settings.users(), userId);
+            }
+            return allPosts;
+        }, settings.forumLatency());
+        neo4j = start(exchange -> exchange.getRequestURI().getPath().equals("/user")
+                ? "{\"status\":\"created\",\"user\":{\"id\":1,\"name\":\"stub\"}}".getBytes(StandardCharsets.UTF_8)
+                : "[]".getBytes(StandardCharsets.UTF_8), settings.neo4jLatency());
+    }
+
+    String forumUrl() {
+        return "http://localhost:" + forum.getAddress().getPort();
+    }
+
+    String neo4jUrl() {
+        return "http://localhost:" + neo4j.getAddress().getPort();
+    }
+
+    private HttpServer start(Body body, Duration latency) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(latency);
+                byte[] response = body.apply(exchange);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(response);
+                }
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+        return server;
+    }
+
+    /** Posts by random users with a few comments each; {@code author} fixes the author when not negative. */
+    private static byte[] posts(int amount, int users, long author) {
+        StringBuilder json = new StringBuilder("[");
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int post = 0; post < amount; post++) {
+            long userId = author >= 0 ? author : 1 + (post * 7919L) % users;
+            json.append(post == 0 ? "" : ",")
+                    .append("{\"id\":\"").append(Integer.toHexString(post)).append("\",\"postId\":").append(post)
+                    .append(",\"userId\":").append(userId)
+                    .append(",\"content\":\"Onde descartar eletrônicos?\",\"postDate\":\"").append(now.minusMinutes(post))
+                    .append("\",\"comments\":[");
+            for (int comment = 0; comment < 3; comment++) {
+                json.append(comment == 0 ? "" : ",")
+                        .append("{\"userId\":").append(1 + (post + comment * 31L) % users)
+                        .append(",\"content\":\"Ecoponto mais próximo\",\"postDate\":\"").append(now).append("\"}");
+            }
+            json.append("],\"engager\":[]}");
+        }
+        return json.append("]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        forum.stop(0);
+        neo4j.stop(0);
+        executor.shutdownNow();
+    }
+
+    private interface Body {
+        byte[] apply(HttpExchange exchange) throws IOException;
+    }
+}
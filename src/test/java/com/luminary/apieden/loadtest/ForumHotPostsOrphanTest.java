@@ -0,0 +1,64 @@
+package com.luminary.apieden.loadtest;
+
+import com.luminary.apieden.model.response.FindForumResponse;
+import com.luminary.apieden.service.ForumHotPostsService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A post whose author was deleted must not keep the hot ranking from refreshing. The forum stub writes posts
+ * for twice as many users as the database has, so most of them are orphaned:
+ * {@code ./mvnw test -Ploadtest -Dtest=ForumHotPostsOrphanTest}.
+ */
+@Tag("loadtest")
+@SpringBootTest(properties = "forum.hot.refresh-interval=PT1H")
+class ForumHotPostsOrphanTest {
+    private static final LoadTestSettings DATABASE = new LoadTestSettings(2, Duration.ZERO, Duration.ZERO,
+            Duration.ZERO, Duration.ZERO, 40, 10, 10, 10);
+    private static final LoadTestSettings FORUM = new LoadTestSettings(2, Duration.ZERO, Duration.ZERO,
+            Duration.ZERO, Duration.ZERO, 80, 10, 10, 10);
+    private static LoadTestDatabase database;
+    private static DownstreamStubs stubs;
+
+    @Autowired
+    private ForumHotPostsService hotPostsService;
+
+    @DynamicPropertySource
+    static void environment(DynamicPropertyRegistry registry) throws Exception {
+        database = new LoadTestDatabase(DATABASE);
+        stubs = new DownstreamStubs(FORUM);
+        registry.add("spring.datasource.url", database::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("api.mongo", stubs::forumUrl);
+        registry.add("api.neo4j", stubs::neo4jUrl);
+    }
+
+    @AfterAll
+    static void stopEnvironment() throws IOException {
+        stubs.close();
+        database.close();
+    }
+
+    @Test
+    void ranksPostsOfDeletedAuthorsWithoutAuthor() {
+        hotPostsService.refresh();
+
+        List<FindForumResponse> hot = hotPostsService.getHotPosts(10);
+        assertEquals(FORUM.forumPosts(), hot.size());
+        assertTrue(hot.stream().anyMatch(post -> post.getUser() == null), "no orphaned post in the ranking");
+        assertTrue(hot.stream().anyMatch(post -> post.getUser() != null), "existing authors not hydrated");
+    }
+}
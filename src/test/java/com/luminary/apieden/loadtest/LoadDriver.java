@@ -0,0 +1,65 @@
+package com.luminary.apieden.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Runs a scenario closed-loop: {@code concurrency} virtual users, each starting its next iteration as soon as
+ * the previous one ends, first for the warmup (not recorded) and then for the measured duration. Iteration
+ * numbers keep counting across both phases, so journeys that consume data never reuse it.
+ */
+class LoadDriver {
+    private final LoadTestSettings settings;
+
+    LoadDriver(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    ScenarioResult run(Scenario scenario) throws Exception {
+        AtomicLongArray iterations = new AtomicLongArray(settings.concurrency());
+        phase(scenario, iterations, settings.warmup(), null);
+        ScenarioResult result = new ScenarioResult(scenario.name());
+        long start = System.nanoTime();
+        phase(scenario, iterations, settings.duration(), result);
+        result.finish(Duration.ofNanos(System.nanoTime() - start));
+        return result;
+    }
+
+    private void phase(Scenario scenario, AtomicLongArray iterations, Duration duration, ScenarioResult result) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService users = Executors.newFixedThreadPool(settings.concurrency());
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int user = 0; user < settings.concurrency(); user++) {
+                int virtualUser = user;
+                running.add(users.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = scenario.iteration().run(virtualUser, iterations.getAndIncrement(virtualUser));
+                        } catch (Exception exception) {
+                            status = 0; // I/O failure, reported under status 0
+                        }
+                        if (status == Scenario.EXHAUSTED) {
+                            return;
+                        }
+                        if (result != null) {
+                            result.record(System.nanoTime() - start, status);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> user : running) {
+                user.get();
+            }
+        } finally {
+            users.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.luminary.apieden.loadtest;
+
+import com.luminary.apieden.model.enums.StatusOrderEnum;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * An embedded PostgreSQL 14 with the production schema ({@code loadtest/schema.sql}, then every
+ * {@code db/*.sql} in order) and a seeded dataset. Ids are assigned explicitly so scenarios can address rows
+ * without querying: users and their carts are {@code 1..users}, the catalog is {@code 1..catalogSize} and the
+ * checkout stock follows it, all sold by the last user.
+ */
+class LoadTestDatabase implements AutoCloseable {
+    static final String[] CATALOG_TERMS = {"Bicicleta", "Notebook", "Geladeira", "Celular", "Cadeira", "Monitor"};
+    private static final int BATCH_SIZE = 1000;
+
+    private final EmbeddedPostgres postgres;
+    private final LoadTestSettings settings;
+
+    LoadTestDatabase(LoadTestSettings settings) throws IOException, SQLException {
+        this.settings = settings;
+        this.postgres = EmbeddedPostgres.start();
+        migrate();
+        seed();
+    }
+
+    String jdbcUrl() {
+        return postgres.getJdbcUrl("postgres", "postgres");
+    }
+
+    long stockSeller() {
+        return settings.users();
+    }
+
+    long stockProduct(int index) {
+        return settings.catalogSize() + 1L + index;
+    }
+
+    private DataSource dataSource() {
+        return postgres.getPostgresDatabase();
+    }
+
+    private void migrate() throws IOException, SQLException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        Resource[] migrations = resolver.getResources("classpath:db/*.sql");
+        Arrays.sort(migrations, Comparator.comparing(Resource::getFilename));
+        try (Connection connection = dataSource().getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            execute(statement, resolver.getResource("classpath:loadtest/schema.sql"));
+            for (Resource migration : migrations) {
+                execute(statement, migration);
+            }
+        }
+    }
+
+    private static void execute(Statement statement, Resource script) throws IOException, SQLException {
+        for (String sql : SqlScript.statements(script.getContentAsString(StandardCharsets.UTF_8))) {
+            statement.execute(sql);
+        }
+    }
+
+    private void seed() throws SQLException {
+        Random random = new Random(42);
+        try (Connection connection = dataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO usage_time (pk_id, time, discount_percentage) VALUES "
+                        + "(1, 'Menos de 1 ano', 0.1), (2, 'De 1 a 3 anos', 0.2), (3, 'Mais de 3 anos', 0.3)");
+                statement.execute("INSERT INTO condition_types (pk_id, type, description) VALUES "
+                        + "(1, 'Novo', 'Sem uso'), (2, 'Seminovo', 'Pouco uso'), (3, 'Usado', 'Marcas de uso')");
+                statement.execute("INSERT INTO payments_types (pk_id, type, description) VALUES "
+                        + "(1, 'PIX', 'Pagamento instantâneo'), (2, 'Cartão', 'Crédito'), (3, 'Boleto', 'Boleto bancário')");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO status_orders (pk_id, status, description) VALUES (?, ?, ?)")) {
+                for (StatusOrderEnum status : StatusOrderEnum.values()) {
+                    insert.setLong(1, status.getId());
+                    insert.setString(2, status.getStatus());
+                    insert.setString(3, status.getDescription());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement user = connection.prepareStatement(
+                    "INSERT INTO users (pk_id, cpf, name, user_name, password, email, cellphone) VALUES (?, ?, ?, ?, ?, ?, ?)");
+                 PreparedStatement cart = connection.prepareStatement(
+                         "INSERT INTO carts (pk_id, fk_user_id, total_sale) VALUES (?, ?, 0)")) {
+                for (long id = 1; id <= settings.users(); id++) {
+                    user.setLong(1, id);
+                    user.setString(2, cpf(id));
+                    user.setString(3, "Usuário " + id);
+                    user.setString(4, "usuario" + id);
+                    user.setString(5, "senha");
+                    user.setString(6, "usuario" + id + "@loadtest.dev");
+                    user.setString(7, String.format("119%08d", id));
+                    user.addBatch();
+                    cart.setLong(1, id);
+                    cart.setLong(2, id);
+                    cart.addBatch();
+                    if (id % BATCH_SIZE == 0) {
+                        user.executeBatch();
+                        cart.executeBatch();
+                    }
+                }
+                user.executeBatch();
+                cart.executeBatch();
+            }
+            try (PreparedStatement product = connection.prepareStatement(
+                    "INSERT INTO products (pk_id, fk_usage_time_id, fk_condition_type_id, fk_user_id, title, description, "
+                            + "price, max_price, sender_zip_code, premium) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                int total = settings.catalogSize() + settings.stockSize();
+                for (int index = 0; index < total; index++) {
+                    long id = index + 1L;
+                    boolean stock = index >= settings.catalogSize();
+                    double price = 20 + random.nextInt(5000);
+                    product.setLong(1, id);
+                    product.setLong(2, 1 + random.nextInt(3));
+                    product.setLong(3, 1 + random.nextInt(3));
+                    product.setLong(4, stock ? stockSeller() : 1 + index % (settings.users() - 1));
+                    product.setString(5, (stock ? "Lote" : CATALOG_TERMS[index % CATALOG_TERMS.length]) + " " + id);
+                    product.setString(6, "Produto de teste de carga");
+                    product.setDouble(7, price);
+                    product.setDouble(8, price * 1.2);
+                    product.setString(9, "01310100");
+                    product.setBoolean(10, stock);
+                    product.addBatch();
+                    if (id % BATCH_SIZE == 0) {
+                        product.executeBatch();
+                    }
+                }
+                product.executeBatch();
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (String table : new String[]{"users", "carts", "products", "usage_time", "condition_types",
+                        "payments_types", "status_orders"}) {
+                    statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'pk_id'), "
+                            + "(SELECT MAX(pk_id) FROM " + table + "))");
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    /** A valid CPF per id: entities are validated again on every update, e.g. when a rating is applied. */
+    static String cpf(long id) {
+        String base = String.format("%09d", id);
+        int first = checkDigit(base);
+        return base + first + checkDigit(base + first);
+    }
+
+    private static int checkDigit(String digits) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (digits.length() + 1 - i);
+        }
+        int digit = sum * 10 % 11;
+        return digit == 10 ? 0 : digit;
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
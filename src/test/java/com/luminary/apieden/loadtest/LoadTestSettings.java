@@ -0,0 +1,36 @@
+package com.luminary.apieden.loadtest;
+
+import java.time.Duration;
+
+/** Knobs of a load test run, read from system properties ({@code -Dloadtest.concurrency=32}). */
+record LoadTestSettings(int concurrency,
+                        Duration warmup,
+                        Duration duration,
+                        Duration forumLatency,
+                        Duration neo4jLatency,
+                        int users,
+                        int catalogSize,
+                        int stockSize,
+                        int forumPosts) {
+
+    static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = new LoadTestSettings(
+                Integer.getInteger("loadtest.concurrency", 16),
+                duration("loadtest.warmup", "PT5S"),
+                duration("loadtest.duration", "PT20S"),
+                duration("loadtest.forum-latency", "PT0.03S"),
+                duration("loadtest.neo4j-latency", "PT0.05S"),
+                Integer.getInteger("loadtest.users", 200),
+                Integer.getInteger("loadtest.catalog-size", 500),
+                Integer.getInteger("loadtest.stock-size", 10_000),
+                Integer.getInteger("loadtest.forum-posts", 200));
+        if (settings.users() <= settings.concurrency()) {
+            throw new IllegalArgumentException("loadtest.users must be greater than loadtest.concurrency");
+        }
+        return settings;
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return Duration.parse(System.getProperty(property, defaultValue));
+    }
+}
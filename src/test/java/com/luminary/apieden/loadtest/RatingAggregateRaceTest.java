@@ -0,0 +1,144 @@
+package com.luminary.apieden.loadtest;
+
+import com.luminary.apieden.model.database.User;
+import com.luminary.apieden.model.request.RatingRequest;
+import com.luminary.apieden.model.request.UpdateRatingRequest;
+import com.luminary.apieden.repository.UserRepository;
+import com.luminary.apieden.service.RatingService;
+import com.luminary.apieden.service.UserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Profile edits racing ratings on the same seller must never roll the rating aggregates back. Needs the
+ * embedded database, so it runs with the load test profile: {@code ./mvnw test -Ploadtest -Dtest=RatingAggregateRaceTest}.
+ */
+@Tag("loadtest")
+@SpringBootTest
+class RatingAggregateRaceTest {
+    private static final LoadTestSettings SETTINGS = new LoadTestSettings(2, Duration.ZERO, Duration.ZERO,
+            Duration.ZERO, Duration.ZERO, 40, 10, 10, 10);
+    private static LoadTestDatabase database;
+    private static DownstreamStubs stubs;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private RatingService ratingService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void environment(DynamicPropertyRegistry registry) throws Exception {
+        database = new LoadTestDatabase(SETTINGS);
+        stubs = new DownstreamStubs(SETTINGS);
+        registry.add("spring.datasource.url", database::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("api.mongo", stubs::forumUrl);
+        registry.add("api.neo4j", stubs::neo4jUrl);
+    }
+
+    @AfterAll
+    static void stopEnvironment() throws IOException {
+        stubs.close();
+        database.close();
+    }
+
+    @Test
+    void staleProfileSaveKeepsRatingsCommittedMeanwhile() {
+        long seller = 1;
+        User loadedBeforeRating = userRepository.findById(seller).orElseThrow();
+
+        ratingService.register(rating(2, seller, 4.5f));
+        loadedBeforeRating.setName("Nome Editado");
+        userRepository.save(loadedBeforeRating);
+
+        assertEquals("Nome Editado", jdbcTemplate.queryForObject("SELECT name FROM users WHERE pk_id = ?", String.class, seller));
+        assertAggregatesMatchRatings(seller);
+    }
+
+    @Test
+    void concurrentProfileEditsAndRatingsKeepAggregatesConsistent() throws Exception {
+        long seller = 3;
+        int appraisers = 30;
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CyclicBarrier start = new CyclicBarrier(2);
+        try {
+            CompletableFuture<Void> edits = CompletableFuture.runAsync(() -> {
+                await(start);
+                for (int edit = 0; edit < appraisers * 2; edit++) {
+                    userService.partialUpdate(String.valueOf(seller), Map.of("name", "Vendedor " + edit));
+                }
+            }, pool);
+            CompletableFuture<Void> ratings = CompletableFuture.runAsync(() -> {
+                await(start);
+                for (long appraiser = 4; appraiser < 4 + appraisers; appraiser++) {
+                    ratingService.register(rating(appraiser, seller, 1 + appraiser % 4));
+                    UpdateRatingRequest update = new UpdateRatingRequest();
+                    update.setRating(0.5f + appraiser % 10 / 2f);
+                    ratingService.update(String.valueOf(appraiser), String.valueOf(seller), update);
+                }
+            }, pool);
+            CompletableFuture.allOf(edits, ratings).get(2, TimeUnit.MINUTES);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(appraisers, jdbcTemplate.queryForObject("SELECT rating_count FROM users WHERE pk_id = ?", Long.class, seller));
+        assertAggregatesMatchRatings(seller);
+    }
+
+    private void assertAggregatesMatchRatings(long seller) {
+        Map<String, Object> expected = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS count, COALESCE(SUM(rating), 0) AS sum FROM ratings WHERE fk_user_appraised_id = ?", seller);
+        Map<String, Object> actual = jdbcTemplate.queryForMap(
+                "SELECT rating_count, rating_sum, rating FROM users WHERE pk_id = ?", seller);
+        long count = ((Number) expected.get("count")).longValue();
+        double sum = ((Number) expected.get("sum")).doubleValue();
+        assertEquals(count, ((Number) actual.get("rating_count")).longValue());
+        assertEquals(sum, ((Number) actual.get("rating_sum")).doubleValue(), 1e-3);
+        assertEquals(count == 0 ? 0 : sum / count, ((Number) actual.get("rating")).doubleValue(), 1e-3);
+
+        int[] histogram = new int[User.RATING_BUCKETS];
+        jdbcTemplate.queryForList("SELECT rating FROM ratings WHERE fk_user_appraised_id = ?", Float.class, seller)
+                .forEach(rating -> histogram[User.ratingBucket(rating)]++);
+        assertArrayEquals(histogram, userRepository.findById(seller).orElseThrow().getRatingHistogram());
+    }
+
+    private static RatingRequest rating(long appraiser, long appraised, float value) {
+        RatingRequest request = new RatingRequest();
+        request.setUserAppraiserId(appraiser);
+        request.setUserAppraisedId(appraised);
+        request.setRating(value);
+        return request;
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("workers did not start together", e);
+        }
+    }
+}
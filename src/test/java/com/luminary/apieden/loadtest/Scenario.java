@@ -0,0 +1,15 @@
+package com.luminary.apieden.loadtest;
+
+/**
+ * A scripted user journey. Each iteration runs the whole journey once for virtual user {@code user} and
+ * answers the HTTP status that decides its outcome: the first non-2xx one, or the last one.
+ */
+record Scenario(String name, Iteration iteration) {
+    /** Answered by an iteration when the virtual user has nothing left to do (e.g. checkout stock used up). */
+    static final int EXHAUSTED = -1;
+
+    @FunctionalInterface
+    interface Iteration {
+        int run(int user, long iteration) throws Exception;
+    }
+}
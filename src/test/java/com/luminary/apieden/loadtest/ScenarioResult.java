@@ -0,0 +1,66 @@
+package com.luminary.apieden.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Iteration latencies (microseconds, 3 significant digits) and outcomes of one scenario's measured phase. */
+class ScenarioResult {
+    private final String scenario;
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final Map<Integer, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder succeeded = new LongAdder();
+    private Duration elapsed = Duration.ZERO;
+
+    ScenarioResult(String scenario) {
+        this.scenario = scenario;
+    }
+
+    void record(long nanos, int status) {
+        latencies.recordValue(Math.min(latencies.getHighestTrackableValue(), TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (status >= 200 && status < 300) {
+            succeeded.increment();
+        } else {
+            failures.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    String scenario() {
+        return scenario;
+    }
+
+    long succeeded() {
+        return succeeded.sum();
+    }
+
+    static String header() {
+        return "| Scenario | Iterations | Throughput (it/s) | p50 (ms) | p90 (ms) | p99 (ms) | p99.9 (ms) | max (ms) | Failures |\n"
+                + "|----------|-----------:|------------------:|---------:|---------:|---------:|-----------:|---------:|----------|\n";
+    }
+
+    String row() {
+        long iterations = latencies.getTotalCount();
+        double seconds = Math.max(1e-9, elapsed.toNanos() / 1e9);
+        Map<Integer, Long> byStatus = new TreeMap<>();
+        failures.forEach((status, count) -> byStatus.put(status, count.sum()));
+        return String.format("| %s | %d | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f | %s |%n",
+                scenario, iterations, iterations / seconds,
+                millis(50), millis(90), millis(99), millis(99.9),
+                latencies.getMaxValue() / 1000.0,
+                byStatus.isEmpty() ? "-" : byStatus.toString());
+    }
+
+    private double millis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
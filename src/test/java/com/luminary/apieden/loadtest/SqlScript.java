@@ -0,0 +1,56 @@
+package com.luminary.apieden.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a PostgreSQL script into statements on {@code ;}, leaving quoted strings, dollar-quoted bodies and
+ * comments alone. Each statement is then run on its own in autocommit, which {@code CREATE INDEX CONCURRENTLY}
+ * requires.
+ */
+final class SqlScript {
+    private SqlScript() {
+    }
+
+    static List<String> statements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < script.length()) {
+            char c = script.charAt(i);
+            if (c == '-' && script.startsWith("--", i)) {
+                int end = script.indexOf('\n', i);
+                i = end < 0 ? script.length() : end;
+            } else if (c == '\'') {
+                int end = script.indexOf('\'', i + 1);
+                while (end > 0 && end + 1 < script.length() && script.charAt(end + 1) == '\'') {
+                    end = script.indexOf('\'', end + 2);
+                }
+                end = end < 0 ? script.length() : end + 1;
+                current.append(script, i, end);
+                i = end;
+            } else if (c == '$' && script.startsWith("$$", i)) {
+                int end = script.indexOf("$$", i + 2);
+                end = end < 0 ? script.length() : end + 2;
+                current.append(script, i, end);
+                i = end;
+            } else if (c == ';') {
+                add(statements, current);
+                i++;
+            } else {
+                current.append(c);
+                i++;
+            }
+        }
+        add(statements, current);
+        return statements;
+    }
+
+    private static void add(List<String> statements, StringBuilder current) {
+        String statement = current.toString().trim();
+        if (!statement.isEmpty()) {
+            statements.add(statement);
+        }
+        current.setLength(0);
+    }
+}
@@ -0,0 +1,169 @@
+package com.luminary.apieden.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end throughput of the main user journeys against the real application context, an embedded
+ * PostgreSQL and local forum/Neo4j stubs. Excluded from the default build; run it with
+ * {@code ./mvnw test -Ploadtest}, tuning it with the {@code loadtest.*} properties of {@link LoadTestSettings}
+ * and any application property, e.g. {@code -Dspring.datasource.hikari.maximum-pool-size=8}. The report is
+ * printed and written to {@code target/loadtest/}.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ThroughputLoadTest {
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    private static LoadTestDatabase database;
+    private static DownstreamStubs stubs;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void environment(DynamicPropertyRegistry registry) throws Exception {
+        database = new LoadTestDatabase(SETTINGS);
+        stubs = new DownstreamStubs(SETTINGS);
+        registry.add("spring.datasource.url", database::jdbcUrl);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("api.mongo", stubs::forumUrl);
+        registry.add("api.neo4j", stubs::neo4jUrl);
+        // Measure raw capacity; pass -Dconcurrency-limit.enabled=true to see the limiter shed the excess
+        registry.add("concurrency-limit.enabled", () -> System.getProperty("concurrency-limit.enabled", "false"));
+    }
+
+    @AfterAll
+    static void stopEnvironment() throws IOException {
+        stubs.close();
+        database.close();
+    }
+
+    @Test
+    void reportsThroughputAndLatencyPerScenario() throws Exception {
+        List<Scenario> scenarios = List.of(
+                new Scenario("browse feed", this::browseFeed),
+                new Scenario("search", this::search),
+                new Scenario("add to cart", this::addToCart),
+                new Scenario("checkout", this::checkout),
+                new Scenario("rate seller", this::rateSeller));
+        LoadDriver driver = new LoadDriver(SETTINGS);
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            results.add(driver.run(scenario));
+        }
+
+        String report = report(results);
+        System.out.println(report);
+        Path output = Path.of("target", "loadtest",
+                "report-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".md");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+        results.forEach(result -> assertTrue(result.succeeded() > 0, "no successful iteration of " + result.scenario()));
+    }
+
+    /** Home screen: product feed plus the first forum page. */
+    private int browseFeed(int user, long iteration) throws Exception {
+        int status = send(get("/product/getProducts").header("userId", userId(user)));
+        return failed(status) ? status : send(get("/forum?page=0&size=20"));
+    }
+
+    private int search(int user, long iteration) throws Exception {
+        String term = LoadTestDatabase.CATALOG_TERMS[(int) (iteration % LoadTestDatabase.CATALOG_TERMS.length)];
+        return send(get("/product/getByTitle?title=%25" + term + "%25").header("userId", userId(user)));
+    }
+
+    /** Adds a catalog product to the user's cart and removes it again, so the cart does not grow. */
+    private int addToCart(int user, long iteration) throws Exception {
+        long product = 1 + (user * 7919L + iteration) % SETTINGS.catalogSize();
+        HttpResponse<String> added = httpClient.send(post("/cart/register",
+                "{\"cartId\":" + userId(user) + ",\"productsId\":" + product + "}").build(), HttpResponse.BodyHandlers.ofString());
+        if (failed(added.statusCode())) {
+            return added.statusCode();
+        }
+        long cartItemId = objectMapper.readTree(added.body()).path("cartItemId").asLong();
+        return send(request("/cart/deleteCartItem/" + cartItemId).DELETE());
+    }
+
+    /** Buys one item of the stock; every virtual user walks its own slice of it. */
+    private int checkout(int user, long iteration) throws Exception {
+        long index = user + iteration * SETTINGS.concurrency();
+        if (index >= SETTINGS.stockSize()) {
+            return Scenario.EXHAUSTED;
+        }
+        int status = send(post("/cart/register",
+                "{\"cartId\":" + userId(user) + ",\"productsId\":" + database.stockProduct((int) index) + "}"));
+        return failed(status) ? status : send(post("/order/registerOrder",
+                "{\"cartId\":" + userId(user) + ",\"paymentTypeId\":1,\"addressDelivery\":\"Av. Paulista, 1000\"}"));
+    }
+
+    /** Rates every other user once, then keeps updating those ratings. */
+    private int rateSeller(int user, long iteration) throws Exception {
+        long appraiser = user + 1L;
+        long appraised = 1 + (appraiser + iteration % (SETTINGS.users() - 1)) % SETTINGS.users();
+        float rating = 0.5f * (1 + iteration % 10);
+        if (iteration < SETTINGS.users() - 1) {
+            return send(post("/rating", "{\"userAppraiserId\":" + appraiser + ",\"userAppraisedId\":" + appraised
+                    + ",\"rating\":" + rating + "}"));
+        }
+        return send(request("/rating?userAppraiserId=" + appraiser + "&userAppraisedId=" + appraised)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"rating\":" + rating + "}")));
+    }
+
+    private static String userId(int user) {
+        return String.valueOf(user + 1);
+    }
+
+    private static boolean failed(int status) {
+        return status < 200 || status >= 300;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return request(path).header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private int send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static String report(List<ScenarioResult> results) {
+        StringBuilder report = new StringBuilder()
+                .append("# Load test ").append(LocalDateTime.now().withNano(0)).append("\n\n")
+                .append(SETTINGS).append("\n\n")
+                .append(ScenarioResult.header());
+        results.forEach(result -> report.append(result.row()));
+        return report.toString();
+    }
+}
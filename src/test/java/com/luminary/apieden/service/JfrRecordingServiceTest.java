@@ -0,0 +1,67 @@
+package com.luminary.apieden.service;
+
+import com.luminary.apieden.config.JfrProperties;
+import com.luminary.apieden.model.exception.HttpError;
+import com.luminary.apieden.model.jfr.CheckoutEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JfrRecordingServiceTest {
+    private final JfrProperties properties = new JfrProperties();
+    private final JfrRecordingService service = new JfrRecordingService(properties);
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void recordsBusinessEventsAndDumpsThem() throws Exception {
+        service.start(Duration.ofMinutes(1), "default");
+        CheckoutEvent event = new CheckoutEvent();
+        event.begin();
+        event.setCartId(7);
+        event.setItems(3);
+        event.setOutcome("OK");
+        event.commit();
+        assertEquals("STOPPED", service.stop().getState());
+
+        Path dump = service.dump();
+        try {
+            List<RecordedEvent> checkouts = RecordingFile.readAllEvents(dump).stream()
+                    .filter(recorded -> recorded.getEventType().getName().equals("com.luminary.apieden.Checkout"))
+                    .toList();
+            assertEquals(1, checkouts.size());
+            assertEquals(7, checkouts.get(0).getLong("cartId"));
+            assertEquals("OK", checkouts.get(0).getString("outcome"));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    @Test
+    void boundsTheDurationAndRefusesASecondRecording() {
+        properties.setMaxDuration(Duration.ofSeconds(30));
+
+        assertEquals(Duration.ofSeconds(30), service.start(Duration.ofHours(1), null).getDuration());
+        HttpError conflict = assertThrows(HttpError.class, () -> service.start(null, null));
+        assertEquals(HttpStatus.CONFLICT, conflict.getHttpStatus());
+    }
+
+    @Test
+    void reportsMissingRecording() {
+        assertEquals(HttpStatus.NOT_FOUND, assertThrows(HttpError.class, service::dump).getHttpStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(HttpError.class, () -> service.start(null, "custom")).getHttpStatus());
+    }
+}
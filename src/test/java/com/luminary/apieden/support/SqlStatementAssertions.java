@@ -0,0 +1,53 @@
+package com.luminary.apieden.support;
+
+import com.luminary.apieden.filter.SqlStatementCountFilter;
+import com.luminary.apieden.util.SqlStatementCounter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Query budgets for integration tests. Run the call on the test thread (MockMvc does) with the Hibernate
+ * statement inspector registered, i.e. {@code sql-statements.enabled} left on.
+ */
+public final class SqlStatementAssertions {
+    private SqlStatementAssertions() {
+    }
+
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    public static SqlStatementCounter.Scope count(ThrowingRunnable action) throws Exception {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            action.run();
+            return scope;
+        }
+    }
+
+    public static void assertMaxStatements(int max, ThrowingRunnable action) throws Exception {
+        SqlStatementCounter.Scope scope = count(action);
+        assertTrue(scope.getTotal() <= max, "expected at most " + max + " SQL statements but got " + scope.getTotal()
+                + ", repeated shapes: " + scope.repeated(2));
+    }
+
+    public static void assertNoRepeatedStatements(int threshold, ThrowingRunnable action) throws Exception {
+        Map<String, Integer> repeated = count(action).repeated(threshold);
+        if (!repeated.isEmpty()) {
+            fail("statement shapes repeated " + threshold + "+ times (possible N+1): " + repeated);
+        }
+    }
+
+    /** For MockMvc against a context with {@code sql-statements.expose-header=true}. */
+    public static ResultMatcher maxStatements(int max) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementCountFilter.HEADER);
+            assertTrue(header != null, SqlStatementCountFilter.HEADER + " header missing, is expose-header on?");
+            int total = Integer.parseInt(header);
+            assertTrue(total <= max, "expected at most " + max + " SQL statements but got " + total);
+        };
+    }
+}
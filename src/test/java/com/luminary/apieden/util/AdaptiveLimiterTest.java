@@ -0,0 +1,50 @@
+package com.luminary.apieden.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveLimiterTest {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AdaptiveLimiter limiter = new AdaptiveLimiter(AdaptiveLimiter.Algorithm.GRADIENT,
+            20, 1, 100, 1.0, 1.5, 5_000 * MS, 0.5);
+
+    @Test
+    void gradientBacksOffOnDrops() {
+        limiter.tryAcquire();
+        limiter.release(10 * MS, true);
+        assertEquals(10, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.release(10 * MS, true);
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void fastDropsDoNotLowerTheBaseline() {
+        saturatedSample(10 * MS);
+        int healthy = limiter.getLimit();
+
+        limiter.tryAcquire();
+        limiter.release(MS / 10, true);
+        int afterDrop = limiter.getLimit();
+        saturatedSample(10 * MS);
+
+        assertTrue(limiter.getLimit() > afterDrop, "a healthy sample after a fast failure should grow the limit again");
+        assertTrue(healthy > afterDrop);
+    }
+
+    private void saturatedSample(long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int permit = 0; permit < acquired; permit++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
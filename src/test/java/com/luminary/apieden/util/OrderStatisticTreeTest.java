@@ -0,0 +1,107 @@
+package com.luminary.apieden.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderStatisticTreeTest {
+    private static final Comparator<Score> BEST_FIRST = Comparator
+            .comparing(Score::rating, Comparator.reverseOrder())
+            .thenComparing(Score::ratingCount, Comparator.reverseOrder())
+            .thenComparing(Score::userId);
+
+    private final OrderStatisticTree<Score> tree = new OrderStatisticTree<>(BEST_FIRST);
+
+    @Test
+    void breaksRatingTiesByCountThenId() {
+        Score fewRatings = new Score(1, 4.5f, 3);
+        Score manyRatings = new Score(2, 4.5f, 10);
+        Score sameAsMany = new Score(3, 4.5f, 10);
+        Score best = new Score(4, 5f, 1);
+        List.of(fewRatings, sameAsMany, best, manyRatings).forEach(tree::add);
+
+        assertEquals(List.of(best, manyRatings, sameAsMany, fewRatings), tree.first(10));
+        assertEquals(0, tree.rank(best));
+        assertEquals(1, tree.rank(manyRatings));
+        assertEquals(2, tree.rank(sameAsMany));
+        assertEquals(3, tree.rank(fewRatings));
+        assertEquals(List.of(best, manyRatings), tree.first(2));
+    }
+
+    @Test
+    void updatesMoveAKeyToItsNewPosition() {
+        Score first = new Score(1, 5f, 2);
+        Score second = new Score(2, 4f, 2);
+        Score third = new Score(3, 3f, 2);
+        List.of(first, second, third).forEach(tree::add);
+
+        Score improved = new Score(3, 5f, 3);
+        assertTrue(tree.remove(third));
+        tree.add(improved);
+
+        assertEquals(List.of(improved, first, second), tree.first(3));
+        assertEquals(0, tree.rank(improved));
+        assertEquals(2, tree.rank(second));
+        assertEquals(3, tree.size());
+    }
+
+    @Test
+    void deletesOnlyTheGivenKey() {
+        Score kept = new Score(1, 4f, 5);
+        Score tied = new Score(2, 4f, 5);
+        tree.add(kept);
+        tree.add(tied);
+
+        assertFalse(tree.remove(new Score(3, 4f, 5)));
+        assertTrue(tree.remove(tied));
+        assertFalse(tree.remove(tied));
+
+        assertEquals(List.of(kept), tree.first(10));
+        assertEquals(1, tree.size());
+        assertEquals(1, tree.rank(tied));
+    }
+
+    @Test
+    void matchesASortedListAcrossRandomChanges() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Score> expected = new ArrayList<>();
+        Score[] current = new Score[200];
+        for (int step = 0; step < 5_000; step++) {
+            int userId = random.nextInt(current.length);
+            if (current[userId] != null) {
+                assertTrue(tree.remove(current[userId]));
+                expected.remove(current[userId]);
+                current[userId] = null;
+            }
+            if (random.nextInt(4) > 0) {
+                current[userId] = new Score(userId, random.nextInt(1, 11) / 2f, random.nextInt(1, 4));
+                tree.add(current[userId]);
+                expected.add(current[userId]);
+            }
+            if (step % 250 == 0) {
+                assertMatches(expected);
+            }
+        }
+        assertMatches(expected);
+    }
+
+    private void assertMatches(List<Score> expected) {
+        List<Score> sorted = expected.stream().sorted(BEST_FIRST).toList();
+        assertEquals(sorted.size(), tree.size());
+        assertEquals(sorted, tree.first(sorted.size()));
+        assertEquals(sorted.subList(0, Math.min(10, sorted.size())), tree.first(10));
+        for (int position = 0; position < sorted.size(); position++) {
+            assertEquals(position, tree.rank(sorted.get(position)));
+        }
+    }
+
+    private record Score(long userId, float rating, long ratingCount) {
+    }
+}
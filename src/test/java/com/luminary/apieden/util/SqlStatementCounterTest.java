@@ -0,0 +1,60 @@
+package com.luminary.apieden.util;
+
+import com.luminary.apieden.support.SqlStatementAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlStatementCounterTest {
+    @Test
+    void groupsStatementsByShape() {
+        assertEquals("select * from users u where u.pk_id in (...) and u.name=?",
+                SqlStatementCounter.shape("select *  from users u\n where u.pk_id in (1, 2,3) and u.name='O''Hara'"));
+        assertEquals(SqlStatementCounter.shape("select p1_0.pk_id from products p1_0 where p1_0.fk_user_id=?"),
+                SqlStatementCounter.shape("select p1_0.pk_id from products p1_0 where p1_0.fk_user_id=42"));
+    }
+
+    @Test
+    void flagsRepeatedShapesInsideOneScope() throws Exception {
+        SqlStatementCounter.Scope scope = SqlStatementAssertions.count(() -> {
+            SqlStatementCounter.record("select * from carts where pk_id=?");
+            for (int user = 0; user < 5; user++) {
+                SqlStatementCounter.record("select * from users where pk_id=" + user);
+            }
+        });
+
+        assertEquals(6, scope.getTotal());
+        assertEquals(Map.of("select * from users where pk_id=?", 5), scope.repeated(5));
+    }
+
+    @Test
+    void nestedScopesCountTowardsTheOuterScope() throws Exception {
+        SqlStatementCounter.Scope outer = SqlStatementAssertions.count(() -> {
+            SqlStatementCounter.record("select 1");
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                SqlStatementCounter.record("select 2");
+                assertEquals(1, inner.getTotal());
+            }
+        });
+
+        assertEquals(2, outer.getTotal());
+        SqlStatementCounter.record("select 3");
+        assertEquals(2, outer.getTotal());
+    }
+
+    @Test
+    void assertionFailsWhenTheBudgetIsExceeded() throws Exception {
+        SqlStatementAssertions.assertMaxStatements(2, () -> SqlStatementCounter.record("select 1"));
+        AssertionError error = assertThrows(AssertionError.class, () -> SqlStatementAssertions.assertNoRepeatedStatements(3,
+                () -> {
+                    for (int order = 0; order < 3; order++) {
+                        SqlStatementCounter.record("select * from orders where pk_id=" + order);
+                    }
+                }));
+        assertTrue(error.getMessage().contains("select * from orders where pk_id=?"));
+    }
+}
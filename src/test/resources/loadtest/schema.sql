@@ -0,0 +1,127 @@
+-- Base schema of the production database, as mapped by the entities. The incremental scripts in
+-- src/main/resources/db are applied on top of it, in order.
+CREATE TABLE users (
+    pk_id     BIGSERIAL PRIMARY KEY,
+    cpf       VARCHAR(11)  NOT NULL UNIQUE,
+    name      VARCHAR(45),
+    user_name VARCHAR(45),
+    password  VARCHAR(100),
+    rating    REAL         NOT NULL DEFAULT 0,
+    email     VARCHAR(90)  NOT NULL UNIQUE,
+    cellphone VARCHAR(11)  NOT NULL UNIQUE
+);
+
+CREATE TABLE usage_time (
+    pk_id               BIGSERIAL PRIMARY KEY,
+    time                VARCHAR(45),
+    discount_percentage REAL
+);
+
+CREATE TABLE condition_types (
+    pk_id       BIGSERIAL PRIMARY KEY,
+    type        VARCHAR(45),
+    description VARCHAR(90)
+);
+
+CREATE TABLE payments_types (
+    pk_id       BIGSERIAL PRIMARY KEY,
+    type        VARCHAR(45),
+    description VARCHAR(90)
+);
+
+CREATE TABLE status_orders (
+    pk_id       BIGSERIAL PRIMARY KEY,
+    status      VARCHAR(45),
+    description VARCHAR(90)
+);
+
+CREATE TABLE products (
+    pk_id                BIGSERIAL PRIMARY KEY,
+    fk_usage_time_id     BIGINT           NOT NULL REFERENCES usage_time (pk_id),
+    fk_condition_type_id BIGINT           NOT NULL REFERENCES condition_types (pk_id),
+    fk_user_id           BIGINT           NOT NULL REFERENCES users (pk_id) ON DELETE CASCADE,
+    title                VARCHAR(45)      NOT NULL UNIQUE,
+    description          VARCHAR(90)      NOT NULL,
+    price                DOUBLE PRECISION NOT NULL,
+    max_price            DOUBLE PRECISION NOT NULL,
+    sender_zip_code      CHAR(8)          NOT NULL,
+    premium              BOOLEAN          NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE carts (
+    pk_id      BIGSERIAL PRIMARY KEY,
+    fk_user_id BIGINT NOT NULL UNIQUE REFERENCES users (pk_id) ON DELETE CASCADE,
+    total_sale REAL   NOT NULL DEFAULT 0
+);
+
+CREATE TABLE carts_itens (
+    pk_id         BIGSERIAL PRIMARY KEY,
+    fk_carts_id   BIGINT NOT NULL REFERENCES carts (pk_id) ON DELETE CASCADE,
+    fk_product_id BIGINT NOT NULL REFERENCES products (pk_id) ON DELETE CASCADE
+);
+
+CREATE TABLE orders (
+    pk_id              BIGSERIAL PRIMARY KEY,
+    fk_payment_type_id BIGINT NOT NULL REFERENCES payments_types (pk_id),
+    fk_status_order_id BIGINT NOT NULL REFERENCES status_orders (pk_id),
+    fk_user_id         BIGINT NOT NULL REFERENCES users (pk_id) ON DELETE CASCADE,
+    order_date         DATE   NOT NULL,
+    address_delivery   VARCHAR(90),
+    total_sale         REAL   NOT NULL DEFAULT 0
+);
+
+CREATE TABLE orders_itens (
+    pk_id         BIGSERIAL PRIMARY KEY,
+    fk_order_id   BIGINT NOT NULL REFERENCES orders (pk_id) ON DELETE CASCADE,
+    fk_product_id BIGINT NOT NULL REFERENCES products (pk_id) ON DELETE CASCADE
+);
+
+CREATE TABLE favorites (
+    fk_user_id    BIGINT NOT NULL REFERENCES users (pk_id) ON DELETE CASCADE,
+    fk_product_id BIGINT NOT NULL REFERENCES products (pk_id) ON DELETE CASCADE,
+    PRIMARY KEY (fk_user_id, fk_product_id)
+);
+
+CREATE TABLE ratings (
+    pk_id                BIGSERIAL PRIMARY KEY,
+    rating               REAL   NOT NULL,
+    fk_user_appraiser_id BIGINT NOT NULL REFERENCES users (pk_id) ON DELETE CASCADE,
+    fk_user_appraised_id BIGINT NOT NULL REFERENCES users (pk_id) ON DELETE CASCADE
+);
+
+CREATE TABLE cards (
+    pk_id       BIGSERIAL PRIMARY KEY,
+    fk_user_id  BIGINT      NOT NULL REFERENCES users (pk_id) ON DELETE CASCADE,
+    card_number VARCHAR(16) NOT NULL,
+    cvv         VARCHAR(3),
+    cvc         VARCHAR(3),
+    validity    VARCHAR(5)
+);
+
+CREATE INDEX idx_carts_itens_fk_carts_id ON carts_itens (fk_carts_id);
+CREATE INDEX idx_orders_fk_user_id ON orders (fk_user_id);
+CREATE INDEX idx_orders_itens_fk_order_id ON orders_itens (fk_order_id);
+CREATE INDEX idx_ratings_appraiser_appraised ON ratings (fk_user_appraiser_id, fk_user_appraised_id);
+
+-- Recomputes the cart total from its items; called by CartService and OrderService.
+CREATE OR REPLACE PROCEDURE total_sale_calc(cart_id INTEGER)
+LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE carts c
+    SET total_sale = COALESCE((SELECT SUM(p.price)
+                               FROM carts_itens ci
+                               JOIN products p ON p.pk_id = ci.fk_product_id
+                               WHERE ci.fk_carts_id = cart_id), 0)
+    WHERE c.pk_id = cart_id;
+END;
+$$;
+
+-- Average rating received by a user; superseded by the running aggregates of 003 but still deployed.
+CREATE OR REPLACE PROCEDURE user_rating_calc(user_id INTEGER)
+LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE users u
+    SET rating = COALESCE((SELECT AVG(r.rating) FROM ratings r WHERE r.fk_user_appraised_id = user_id), 0)
+    WHERE u.pk_id = user_id;
+END;
+$$;